@@ -1,7 +1,9 @@
 package org.example.menuservice.client;
 
 
+import org.example.menuservice.dto.OrderPageResponseDto;
 import org.example.menuservice.dto.OrderResponseDto;
+import org.example.menuservice.dto.OrderStatsDto;
 import org.example.menuservice.config.FeignClientInterceptor;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,11 +14,18 @@ import java.util.List;
 @FeignClient(name = "order-service", configuration = FeignClientInterceptor.class)
 public interface OrderServiceClient {
 
-    // toate comenziile-admin
-    @GetMapping("/api/orders")
-    List<OrderResponseDto> getAllOrders();
+    // toate comenzile, pagina cu pagina (paginare keyset dupa id)
+    @GetMapping("/api/orders/page")
+    OrderPageResponseDto getOrdersPage(@RequestParam(value = "after", required = false) Long afterId,
+                                       @RequestParam("size") int size);
 
-    //comenzi dupa numele clientului-client
+    // statistici pre-agregate (numar si incasari pe status si pe zi)
+    @GetMapping("/api/orders/stats")
+    OrderStatsDto getOrderStats();
+
+    //comenzi dupa numele clientului-client, pagina cu pagina (cele mai noi primele)
     @GetMapping("/api/orders/search/client")
-    List<OrderResponseDto> getOrdersByClient(@RequestParam("name") String clientName);
+    List<OrderResponseDto> getOrdersByClient(@RequestParam("name") String clientName,
+                                             @RequestParam("page") int page,
+                                             @RequestParam("size") int size);
 }
\ No newline at end of file
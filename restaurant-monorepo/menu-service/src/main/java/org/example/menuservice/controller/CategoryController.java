@@ -2,11 +2,13 @@ package org.example.menuservice.controller;
 
 import org.example.menuservice.dto.CategoryDto;
 import org.example.menuservice.service.CategoryServiceImpl;
+import org.example.menuservice.service.MenuSnapshotStore;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -17,6 +19,9 @@ public class CategoryController {
     @Autowired
     private CategoryServiceImpl categoryService;
 
+    @Autowired
+    private MenuSnapshotStore menuSnapshotStore;
+
     @PreAuthorize("hasAuthority('ROLE_ADMIN')")
     @PostMapping
     public ResponseEntity<CategoryDto> createCategory(@RequestBody CategoryDto categoryDto) {
@@ -26,16 +31,14 @@ public class CategoryController {
 
     @PreAuthorize("isAuthenticated()")
     @GetMapping
-    public ResponseEntity<List<CategoryDto>> getAllCategories() {
-        List<CategoryDto> categories = categoryService.getAllCategories();
-        return new ResponseEntity<>(categories, HttpStatus.OK);
+    public ResponseEntity<List<CategoryDto>> getAllCategories(WebRequest request) {
+        return MenuResponses.ok(request, menuSnapshotStore, categoryService::getAllCategories);
     }
 
     @PreAuthorize("hasAuthority('ROLE_ADMIN')")
     @GetMapping("/{id}")
-    public ResponseEntity<CategoryDto> getCategoryById(@PathVariable Integer id) {
-        CategoryDto category = categoryService.getCategoryById(id);
-        return new ResponseEntity<>(category, HttpStatus.OK);
+    public ResponseEntity<CategoryDto> getCategoryById(@PathVariable Integer id, WebRequest request) {
+        return MenuResponses.ok(request, menuSnapshotStore, () -> categoryService.getCategoryById(id));
     }
 
     @PreAuthorize("hasAuthority('ROLE_ADMIN')")
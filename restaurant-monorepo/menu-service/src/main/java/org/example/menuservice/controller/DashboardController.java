@@ -1,7 +1,9 @@
 package org.example.menuservice.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.example.menuservice.dto.OrderPageResponseDto;
 import org.example.menuservice.dto.OrderResponseDto;
+import org.example.menuservice.dto.OrderStatsDto;
 import org.example.menuservice.dto.UserResponseDto;
 import org.example.menuservice.service.DashboardService;
 import org.springframework.http.ResponseEntity;
@@ -20,18 +22,28 @@ public class DashboardController {
 
     private final DashboardService dashboardService;
 
-    //  http://localhost:8080/api/menu/dashboard/orders
+    //  http://localhost:8080/api/menu/dashboard/orders?after=500&size=100 (after = nextCursor of the previous page)
     @GetMapping("/orders")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<OrderResponseDto>> getAllOrders() {
-        return ResponseEntity.ok(dashboardService.getAllOrdersForAdmin());
+    public ResponseEntity<OrderPageResponseDto> getAllOrders(@RequestParam(required = false) Long after,
+                                                             @RequestParam(defaultValue = "100") int size) {
+        return ResponseEntity.ok(dashboardService.getAllOrdersForAdmin(after, size));
     }
 
-    //  http://localhost:8080/api/menu/dashboard/my-orders?name=Diana
+    //  http://localhost:8080/api/menu/dashboard/orders/stats
+    @GetMapping("/orders/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<OrderStatsDto> getOrderStats() {
+        return ResponseEntity.ok(dashboardService.getOrderStats());
+    }
+
+    //  http://localhost:8080/api/menu/dashboard/my-orders?name=Diana&page=0&size=100
     @GetMapping("/my-orders")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<List<OrderResponseDto>> getClientOrders(@RequestParam String name) {
-        return ResponseEntity.ok(dashboardService.getOrdersForClient(name));
+    public ResponseEntity<List<OrderResponseDto>> getClientOrders(@RequestParam String name,
+                                                                  @RequestParam(defaultValue = "0") int page,
+                                                                  @RequestParam(defaultValue = "100") int size) {
+        return ResponseEntity.ok(dashboardService.getOrdersForClient(name, page, size));
     }
 
     // http://localhost:8080/api/menu/dashboard/users/search?name=Diana
@@ -2,11 +2,14 @@ package org.example.menuservice.controller;
 
 import org.example.menuservice.dto.DishDto;
 import org.example.menuservice.service.DishServiceImpl;
+import org.example.menuservice.service.MenuSnapshot;
+import org.example.menuservice.service.MenuSnapshotStore;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -17,6 +20,12 @@ public class DishController {
     @Autowired
     private DishServiceImpl dishService;
 
+    @Autowired
+    private MenuSnapshotStore menuSnapshotStore;
+
+    @Autowired
+    private MenuJsonCache menuJsonCache;
+
     @PreAuthorize("hasAuthority('ROLE_ADMIN')")
     @PostMapping
     public ResponseEntity<DishDto> createDish(@RequestBody DishDto dishDto) {
@@ -26,16 +35,20 @@ public class DishController {
 
     @PreAuthorize("isAuthenticated()")
     @GetMapping
-    public ResponseEntity<List<DishDto>> getAllDishes() {
-        List<DishDto> dishes = dishService.getAllDishes();
-        return new ResponseEntity<>(dishes, HttpStatus.OK);
+    public ResponseEntity<byte[]> getAllDishes(WebRequest request) {
+        return menuJsonCache.respond(request, "all", MenuSnapshot::getDishes);
+    }
+
+    @PreAuthorize("isAuthenticated()")
+    @GetMapping("/batch")
+    public ResponseEntity<List<DishDto>> getDishesByIds(@RequestParam List<Integer> ids, WebRequest request) {
+        return MenuResponses.ok(request, menuSnapshotStore, () -> dishService.getDishesByIds(ids));
     }
 
     @PreAuthorize("hasAuthority('ROLE_ADMIN')")
     @GetMapping("/{id}")
-    public ResponseEntity<DishDto> getDishById(@PathVariable Integer id) {
-        DishDto dish = dishService.getDishById(id);
-        return new ResponseEntity<>(dish, HttpStatus.OK);
+    public ResponseEntity<DishDto> getDishById(@PathVariable Integer id, WebRequest request) {
+        return MenuResponses.ok(request, menuSnapshotStore, () -> dishService.getDishById(id));
     }
 
     @PreAuthorize("hasAuthority('ROLE_ADMIN')")
@@ -54,27 +67,31 @@ public class DishController {
 
     @PreAuthorize("isAuthenticated()")
     @GetMapping("/search")
-    public ResponseEntity<List<DishDto>> searchDishes(@RequestParam String name) {
-        List<DishDto> dishes = dishService.searchDishByName(name);
-        return new ResponseEntity<>(dishes, HttpStatus.OK);
+    public ResponseEntity<List<DishDto>> searchDishes(@RequestParam String name, WebRequest request) {
+        return MenuResponses.ok(request, menuSnapshotStore, () -> dishService.searchDishByName(name));
     }
 
     @PreAuthorize("isAuthenticated()")
     @GetMapping("/filter")
-    public ResponseEntity<List<DishDto>> filterDishes(
+    public ResponseEntity<byte[]> filterDishes(
             @RequestParam(required = false) Integer categoryId,
-            @RequestParam(required = false) Boolean availability) {
-        List<DishDto> dishes = dishService.filterDishes(categoryId, availability);
-        return new ResponseEntity<>(dishes, HttpStatus.OK);
+            @RequestParam(required = false) Boolean availability,
+            WebRequest request) {
+        // an unknown category matches no dish whatever the availability, so all of them share one cached body
+        return menuJsonCache.respond(request,
+                snapshot -> categoryId != null && snapshot.getCategory(categoryId) == null
+                        ? "filter:unknown"
+                        : "filter:" + categoryId + ":" + availability,
+                snapshot -> snapshot.filter(categoryId, availability));
     }
 
     @PreAuthorize("isAuthenticated()")
     @GetMapping("/sorted")
     public ResponseEntity<List<DishDto>> getSortedDishes(
             @RequestParam(defaultValue = "name") String sortBy,
-            @RequestParam(defaultValue = "asc") String order) {
-        List<DishDto> dishes = dishService.getDishesSortedBy(sortBy, order);
-        return new ResponseEntity<>(dishes, HttpStatus.OK);
+            @RequestParam(defaultValue = "asc") String order,
+            WebRequest request) {
+        return MenuResponses.ok(request, menuSnapshotStore, () -> dishService.getDishesSortedBy(sortBy, order));
     }
 }
 
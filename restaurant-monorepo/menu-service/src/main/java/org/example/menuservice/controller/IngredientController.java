@@ -2,11 +2,13 @@ package org.example.menuservice.controller;
 
 import org.example.menuservice.dto.IngredientDto;
 import org.example.menuservice.service.IngredientServiceImpl;
+import org.example.menuservice.service.MenuSnapshotStore;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -17,6 +19,9 @@ public class IngredientController {
     @Autowired
     private IngredientServiceImpl ingredientService;
 
+    @Autowired
+    private MenuSnapshotStore menuSnapshotStore;
+
     @PreAuthorize("hasRole('ADMIN')")
     @PostMapping
     public ResponseEntity<IngredientDto> createIngredient(@RequestBody IngredientDto ingredientDto) {
@@ -26,16 +31,14 @@ public class IngredientController {
 
     @PreAuthorize("isAuthenticated()")
     @GetMapping
-    public ResponseEntity<List<IngredientDto>> getAllIngredients() {
-        List<IngredientDto> ingredients = ingredientService.getAllIngredients();
-        return new ResponseEntity<>(ingredients, HttpStatus.OK);
+    public ResponseEntity<List<IngredientDto>> getAllIngredients(WebRequest request) {
+        return MenuResponses.ok(request, menuSnapshotStore, ingredientService::getAllIngredients);
     }
 
     @PreAuthorize("hasRole('ADMIN')")
     @GetMapping("/{id}")
-    public ResponseEntity<IngredientDto> getIngredientById(@PathVariable Integer id) {
-        IngredientDto ingredient = ingredientService.getIngredientById(id);
-        return new ResponseEntity<>(ingredient, HttpStatus.OK);
+    public ResponseEntity<IngredientDto> getIngredientById(@PathVariable Integer id, WebRequest request) {
+        return MenuResponses.ok(request, menuSnapshotStore, () -> ingredientService.getIngredientById(id));
     }
 
     @PreAuthorize("hasRole('ADMIN')")
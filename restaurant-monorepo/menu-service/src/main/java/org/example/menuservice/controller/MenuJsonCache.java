@@ -0,0 +1,163 @@
+package org.example.menuservice.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.menuservice.service.MenuSnapshot;
+import org.example.menuservice.service.MenuSnapshotStore;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps the encoded JSON (plain and gzip) of the hottest menu responses, so they are written
+ * to the client as they are instead of being serialised again for every request.
+ * The bytes belong to one menu snapshot: once a write replaces the snapshot, the next request
+ * starts a new cache and the old one is dropped. Keys are derived from the snapshot, so callers
+ * must map parameters that cannot match anything (e.g. unknown IDs) to a shared key; the cache
+ * then holds at most one entry per view the menu can actually produce.
+ *
+ * @version 1.0
+ */
+@Component
+public class MenuJsonCache {
+
+    @Autowired
+    private MenuSnapshotStore menuSnapshotStore;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private volatile Entries entries;
+
+    /**
+     * Responds with the cached JSON of a menu view, in gzip if the client accepts it, or with 304
+     * if the client already holds that version. Like {@link MenuResponses}, the response carries
+     * the ETag of the snapshot, extended with "-gzip" for the compressed variant.
+     * The responses are immutable, so each one is built once per snapshot and then shared.
+     *
+     * @param request the current request.
+     * @param key identifies the view, including every parameter it depends on.
+     * @param view builds the view from the snapshot; only called when it is not cached yet.
+     * @return ResponseEntity&lt;byte[]&gt; the response.
+     */
+    public ResponseEntity<byte[]> respond(WebRequest request, String key, Function<MenuSnapshot, ?> view) {
+        return respond(request, snapshot -> key, view);
+    }
+
+    /**
+     * Like {@link #respond(WebRequest, String, Function)}, for views whose key depends on the
+     * snapshot, e.g. to give every parameter that matches nothing in this snapshot the same key.
+     *
+     * @param request the current request.
+     * @param key computes the key of the view in the given snapshot.
+     * @param view builds the view from the snapshot; only called when it is not cached yet.
+     * @return ResponseEntity&lt;byte[]&gt; the response.
+     */
+    public ResponseEntity<byte[]> respond(WebRequest request, Function<MenuSnapshot, String> key,
+                                          Function<MenuSnapshot, ?> view) {
+        Entries current = entries(menuSnapshotStore.current());
+        boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        if (request.checkNotModified(gzip ? current.gzipETag() : current.eTag())) {
+            return gzip ? current.gzipNotModified() : current.notModified();
+        }
+
+        String bodyKey = key.apply(current.snapshot());
+        Body body = current.bodies().get(bodyKey);
+        if (body == null) {
+            // concurrent requests for a view that is not cached yet wait for one encoding instead of each doing it
+            body = current.bodies().computeIfAbsent(bodyKey, k -> encode(current, view.apply(current.snapshot())));
+        }
+        return gzip ? body.gzip() : body.plain();
+    }
+
+    private Entries entries(MenuSnapshot snapshot) {
+        Entries current = entries;
+        if (current == null || current.snapshot() != snapshot) {
+            String eTag = snapshot.getETag();
+            String gzipETag = eTag.substring(0, eTag.length() - 1) + "-gzip\"";
+            current = new Entries(snapshot, eTag, gzipETag,
+                    headers(HttpStatus.NOT_MODIFIED, eTag).build(),
+                    headers(HttpStatus.NOT_MODIFIED, gzipETag).build(),
+                    new ConcurrentHashMap<>());
+            entries = current;
+        }
+        return current;
+    }
+
+    private Body encode(Entries entries, Object value) {
+        byte[] json;
+        ByteArrayOutputStream compressed;
+        try {
+            json = objectMapper.writeValueAsBytes(value);
+            compressed = new ByteArrayOutputStream(json.length / 4 + 64);
+            try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+                out.write(json);
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialise the menu: " + e.getMessage(), e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        ResponseEntity<byte[]> plain = headers(HttpStatus.OK, entries.eTag())
+                .contentType(MediaType.APPLICATION_JSON).body(json);
+        ResponseEntity.BodyBuilder gzip = headers(HttpStatus.OK, entries.gzipETag()).contentType(MediaType.APPLICATION_JSON);
+        // tiny bodies grow when compressed; those are always sent as they are
+        if (compressed.size() < json.length) {
+            return new Body(plain, gzip.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(compressed.toByteArray()));
+        }
+        return new Body(plain, gzip.body(json));
+    }
+
+    private static ResponseEntity.BodyBuilder headers(HttpStatus status, String eTag) {
+        return ResponseEntity.status(status)
+                .eTag(eTag)
+                .cacheControl(MenuResponses.CACHE_CONTROL)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    /**
+     * Checks whether an Accept-Encoding header allows gzip, by name or else through "*".
+     *
+     * @param acceptEncoding the header value, or null.
+     * @return boolean true if a gzip body may be sent.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Boolean gzip = null;
+        Boolean any = null;
+        for (String coding : acceptEncoding.split(",")) {
+            int semicolon = coding.indexOf(';');
+            String name = (semicolon < 0 ? coding : coding.substring(0, semicolon)).trim();
+            boolean allowed = semicolon < 0 || !coding.substring(semicolon + 1).trim().matches("(?i)q\\s*=\\s*0(\\.0*)?");
+            if (name.equalsIgnoreCase("gzip")) {
+                gzip = allowed;
+            } else if (name.equals("*")) {
+                any = allowed;
+            }
+        }
+        return gzip != null ? gzip : Boolean.TRUE.equals(any);
+    }
+
+    private record Entries(MenuSnapshot snapshot, String eTag, String gzipETag,
+                           ResponseEntity<byte[]> notModified, ResponseEntity<byte[]> gzipNotModified,
+                           Map<String, Body> bodies) {
+    }
+
+    private record Body(ResponseEntity<byte[]> plain, ResponseEntity<byte[]> gzip) {
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.menuservice.controller;
+
+import org.example.menuservice.service.MenuSnapshotStore;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.function.Supplier;
+
+/**
+ * Conditional GET support for the menu read endpoints.
+ * Every response carries the strong ETag of the current menu snapshot; a request whose
+ * If-None-Match already holds it is answered 304 without building or serialising the body.
+ *
+ * @version 1.0
+ */
+final class MenuResponses {
+
+    // private: the menu is only served to authenticated users; no-cache: revalidate on every use,
+    // which also keeps Spring Security from marking the response no-store
+    static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    private MenuResponses() {
+    }
+
+    /**
+     * Builds a 200 response tagged with the current menu version, or a 304 if the client already has it.
+     * The ETag is taken before the body is read: if a write lands in between, the client gets newer
+     * content under the older tag and simply downloads it again next time, never the reverse.
+     *
+     * @param request the current request.
+     * @param menuSnapshotStore the store holding the current menu.
+     * @param body supplies the response body, only called for a 200.
+     * @return ResponseEntity&lt;T&gt; the response.
+     */
+    static <T> ResponseEntity<T> ok(WebRequest request, MenuSnapshotStore menuSnapshotStore, Supplier<T> body) {
+        String eTag = menuSnapshotStore.current().getETag();
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(CACHE_CONTROL).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).cacheControl(CACHE_CONTROL).body(body.get());
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.menuservice.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * One row of the flat dish query: a dish with its category and one of its ingredients
+ * (null for a dish without ingredients). A dish with n ingredients comes back as n rows;
+ * DishMapper.fromRows folds them into one DishDto.
+ */
+public record DishRow(Integer id,
+                      String name,
+                      String description,
+                      BigDecimal price,
+                      boolean availability,
+                      Integer categoryId,
+                      String categoryName,
+                      String ingredient) {
+}
@@ -0,0 +1,18 @@
+package org.example.menuservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderStatsDto {
+    private long totalOrders;
+    private BigDecimal totalRevenue;
+    private Map<String, OrderStatsEntryDto> byStatus;
+    private Map<String, OrderStatsEntryDto> byDay;
+}
@@ -0,0 +1,28 @@
+package org.example.menuservice.mapper;
+
+import org.example.menuservice.dto.CategoryDto;
+import org.example.menuservice.entity.Category;
+
+/**
+ * Converts Category entities to CategoryDto.
+ *
+ * @version 1.0
+ */
+public class CategoryMapper {
+
+    /**
+     * Converts a Category entity to a CategoryDto, without touching its dishes.
+     *
+     * @param category the entity to convert.
+     * @return CategoryDto the converted data object, or null for a null category.
+     */
+    public static CategoryDto toDto(Category category) {
+        if (category == null) {
+            return null;
+        }
+        CategoryDto categoryDto = new CategoryDto();
+        categoryDto.setId(category.getId());
+        categoryDto.setName(category.getName());
+        return categoryDto;
+    }
+}
@@ -0,0 +1,104 @@
+package org.example.menuservice.mapper;
+
+import org.example.menuservice.dto.DishDto;
+import org.example.menuservice.dto.DishRow;
+import org.example.menuservice.entity.Category;
+import org.example.menuservice.entity.Dish;
+import org.example.menuservice.entity.Ingredient;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Converts between Dish entities and DishDto, field by field.
+ * Replaces the reflective ModelMapper calls on the menu read path: the category is
+ * flattened into categoryId/categoryName and the ingredients into their names.
+ *
+ * @version 1.0
+ */
+public class DishMapper {
+
+    /**
+     * Converts a Dish entity to a DishDto.
+     *
+     * @param dish the entity to convert; its category and ingredients must be loaded.
+     * @return DishDto the converted data object, or null for a null dish.
+     */
+    public static DishDto toDto(Dish dish) {
+        if (dish == null) {
+            return null;
+        }
+        DishDto dishDto = new DishDto();
+        dishDto.setId(dish.getId());
+        dishDto.setName(dish.getName());
+        dishDto.setDescription(dish.getDescription());
+        dishDto.setPrice(dish.getPrice());
+        dishDto.setAvailability(dish.isAvailability());
+
+        Category category = dish.getCategory();
+        if (category != null) {
+            dishDto.setCategoryId(category.getId());
+            dishDto.setCategoryName(category.getName());
+        }
+
+        Set<Ingredient> ingredients = dish.getIngredients();
+        if (ingredients != null) {
+            Set<String> ingredientNames = HashSet.newHashSet(ingredients.size());
+            for (Ingredient ingredient : ingredients) {
+                ingredientNames.add(ingredient.getName());
+            }
+            dishDto.setIngredients(ingredientNames);
+        }
+        return dishDto;
+    }
+
+    /**
+     * Folds the flat rows of the dish list queries into one DishDto per dish, in the order
+     * in which each dish first appears.
+     *
+     * @param rows the rows, one per dish and ingredient.
+     * @return List&lt;DishDto&gt; the dishes.
+     */
+    public static List<DishDto> fromRows(List<DishRow> rows) {
+        Map<Integer, DishDto> dishes = LinkedHashMap.newLinkedHashMap(rows.size());
+        for (DishRow row : rows) {
+            DishDto dishDto = dishes.get(row.id());
+            if (dishDto == null) {
+                dishDto = new DishDto();
+                dishDto.setId(row.id());
+                dishDto.setName(row.name());
+                dishDto.setDescription(row.description());
+                dishDto.setPrice(row.price());
+                dishDto.setAvailability(row.availability());
+                dishDto.setCategoryId(row.categoryId());
+                dishDto.setCategoryName(row.categoryName());
+                dishDto.setIngredients(new HashSet<>());
+                dishes.put(row.id(), dishDto);
+            }
+            if (row.ingredient() != null) {
+                dishDto.getIngredients().add(row.ingredient());
+            }
+        }
+        return new ArrayList<>(dishes.values());
+    }
+
+    /**
+     * Creates a Dish entity from the plain fields of a DishDto.
+     * The id, category and ingredients are left to the caller, which resolves them.
+     *
+     * @param dishDto the data to copy.
+     * @return Dish a new, unsaved entity.
+     */
+    public static Dish toEntity(DishDto dishDto) {
+        Dish dish = new Dish();
+        dish.setName(dishDto.getName());
+        dish.setDescription(dishDto.getDescription());
+        dish.setPrice(dishDto.getPrice());
+        dish.setAvailability(dishDto.isAvailability());
+        return dish;
+    }
+}
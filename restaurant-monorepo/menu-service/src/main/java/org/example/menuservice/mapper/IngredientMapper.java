@@ -0,0 +1,41 @@
+package org.example.menuservice.mapper;
+
+import org.example.menuservice.dto.IngredientDto;
+import org.example.menuservice.entity.Ingredient;
+
+/**
+ * Converts between Ingredient entities and IngredientDto.
+ *
+ * @version 1.0
+ */
+public class IngredientMapper {
+
+    /**
+     * Converts an Ingredient entity to an IngredientDto, without touching its dishes.
+     *
+     * @param ingredient the entity to convert.
+     * @return IngredientDto the converted data object, or null for a null ingredient.
+     */
+    public static IngredientDto toDto(Ingredient ingredient) {
+        if (ingredient == null) {
+            return null;
+        }
+        IngredientDto ingredientDto = new IngredientDto();
+        ingredientDto.setId(ingredient.getId());
+        ingredientDto.setName(ingredient.getName());
+        return ingredientDto;
+    }
+
+    /**
+     * Creates an Ingredient entity from an IngredientDto.
+     *
+     * @param ingredientDto the data to copy.
+     * @return Ingredient the entity.
+     */
+    public static Ingredient toEntity(IngredientDto ingredientDto) {
+        Ingredient ingredient = new Ingredient();
+        ingredient.setId(ingredientDto.getId());
+        ingredient.setName(ingredientDto.getName());
+        return ingredient;
+    }
+}
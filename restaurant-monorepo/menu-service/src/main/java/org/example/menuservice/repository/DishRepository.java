@@ -1,5 +1,6 @@
 package org.example.menuservice.repository;
 
+import org.example.menuservice.dto.DishRow;
 import org.example.menuservice.entity.Dish;
 import org.example.menuservice.entity.Ingredient;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -8,25 +9,15 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
-import java.util.Optional;
 
 @Repository
 public interface DishRepository extends JpaRepository<Dish, Integer> {
 
-    @Query("SELECT d FROM Dish d JOIN FETCH d.category WHERE d.id = :id")
-    Optional<Dish> findByIdWithCategory(@Param("id") Integer id);
-
-    @Query("SELECT d FROM Dish d JOIN FETCH d.category")
-    List<Dish> findAllWithCategories();
-
-    @Query("SELECT d FROM Dish d JOIN FETCH d.category WHERE lower(d.name) LIKE lower(concat('%', :name, '%'))")
-    List<Dish> findByNameContainingIgnoreCaseWithCategory(@Param("name") String name);
-
-    @Query("SELECT d FROM Dish d JOIN FETCH d.category " +
-            "WHERE (:categoryId IS NULL OR d.category.id = :categoryId) " +
-            "AND (:availability IS NULL OR d.availability = :availability)")
-    List<Dish> filterByCriteriaWithCategory(@Param("categoryId") Integer categoryId,
-                                            @Param("availability") Boolean availability);
+    // the menu is read as flat rows (one per dish and ingredient) in a single statement,
+    // instead of loading managed entities and then their ingredients one dish at a time
+    @Query("SELECT new org.example.menuservice.dto.DishRow(d.id, d.name, d.description, d.price, " +
+            "d.availability, c.id, c.name, i.name) FROM Dish d JOIN d.category c LEFT JOIN d.ingredients i ORDER BY d.id")
+    List<DishRow> findAllRows();
 
     @Query("SELECT d FROM Dish d JOIN FETCH d.category WHERE d.category.id = :categoryId")
     List<Dish> findByCategoryIdWithCategory(@Param("categoryId") Integer categoryId);
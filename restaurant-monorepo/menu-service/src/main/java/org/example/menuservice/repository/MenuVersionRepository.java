@@ -0,0 +1,20 @@
+package org.example.menuservice.repository;
+
+import org.example.menuservice.entity.MenuVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface MenuVersionRepository extends JpaRepository<MenuVersion, Integer> {
+
+    @Modifying
+    @Query("UPDATE MenuVersion v SET v.version = v.version + 1 WHERE v.id = " + MenuVersion.ID)
+    int increment();
+
+    @Query("SELECT v.version FROM MenuVersion v WHERE v.id = " + MenuVersion.ID)
+    Optional<Long> findCurrent();
+}
@@ -2,15 +2,15 @@ package org.example.menuservice.service;
 
 import org.example.menuservice.dto.CategoryDto;
 import org.example.menuservice.entity.Category;
+import org.example.menuservice.mapper.CategoryMapper;
 import org.example.menuservice.repository.CategoryRepository;
 import org.example.menuservice.repository.DishRepository;
 import jakarta.persistence.EntityNotFoundException;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.stream.Collectors;
 /**
  * Service implementation for managing menu categories.
  * Handles persistence and validation logic for categories.
@@ -28,7 +28,10 @@ public class CategoryServiceImpl implements ICategoryService {
     private DishRepository dishRepository;
 
     @Autowired
-    private ModelMapper modelMapper;
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private MenuSnapshotStore menuSnapshotStore;
 
     /**
      * Creates a new category while ensuring the name is unique.
@@ -46,20 +49,19 @@ public class CategoryServiceImpl implements ICategoryService {
         Category categoryToSave = new Category();
         categoryToSave.setName(categoryDto.getName());
         Category savedCategory = categoryRepository.save(categoryToSave);
-        return modelMapper.map(savedCategory, CategoryDto.class);
+        eventPublisher.publishEvent(new MenuChangedEvent());
+        return CategoryMapper.toDto(savedCategory);
     }
 
     /**
-     * Retrieves all categories from the repository.
+     * Retrieves all categories from the menu snapshot.
      *
      * @return List&lt;CategoryDto&gt; all categories.
      * @author Ruxandra Urs-12.01.2026
      */
     @Override
     public List<CategoryDto> getAllCategories() {
-        return categoryRepository.findAll().stream()
-                .map(category -> modelMapper.map(category, CategoryDto.class))
-                .collect(Collectors.toList());
+        return menuSnapshotStore.current().getCategories();
     }
     /**
      * Finds a category by its ID.
@@ -70,9 +72,11 @@ public class CategoryServiceImpl implements ICategoryService {
      */
     @Override
     public CategoryDto getCategoryById(Integer id) {
-        Category category = categoryRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Category with ID " + id + " not found."));
-        return modelMapper.map(category, CategoryDto.class);
+        CategoryDto category = menuSnapshotStore.current().getCategory(id);
+        if (category == null) {
+            throw new EntityNotFoundException("Category with ID " + id + " not found.");
+        }
+        return category;
     }
     /**
      * Updates an existing category name.
@@ -89,7 +93,8 @@ public class CategoryServiceImpl implements ICategoryService {
 
         existingCategory.setName(categoryDto.getName());
         Category updatedCategory = categoryRepository.save(existingCategory);
-        return modelMapper.map(updatedCategory, CategoryDto.class);
+        eventPublisher.publishEvent(new MenuChangedEvent());
+        return CategoryMapper.toDto(updatedCategory);
     }
     /**
      * Deletes a category if it has no associated dishes.
@@ -111,5 +116,6 @@ public class CategoryServiceImpl implements ICategoryService {
         }
 
         categoryRepository.deleteById(id);
+        eventPublisher.publishEvent(new MenuChangedEvent());
     }
 }
@@ -3,7 +3,9 @@ package org.example.menuservice.service;
 import lombok.RequiredArgsConstructor;
 import org.example.menuservice.client.OrderServiceClient;
 import org.example.menuservice.client.UserServiceClient;
+import org.example.menuservice.dto.OrderPageResponseDto;
 import org.example.menuservice.dto.OrderResponseDto;
+import org.example.menuservice.dto.OrderStatsDto;
 import org.example.menuservice.dto.UserResponseDto;
 import org.springframework.stereotype.Service;
 
@@ -23,24 +25,39 @@ public class DashboardService {
     private final UserServiceClient userServiceClient;
 
     /**
-     * Retrieves all orders for administrative purposes by calling the Order microservice.
+     * Retrieves one page of all orders for administrative purposes. The caller follows the
+     * returned cursor for the next page, so no single response has to carry the whole order table.
      *
-     * @return List&lt;OrderResponseDto&gt; a list of all existing orders.
+     * @param afterId the cursor returned with the previous page, or null for the first page.
+     * @param size the maximum number of orders in the page.
+     * @return OrderPageResponseDto the orders in ascending ID order and the cursor of the next page.
      * @author Ruxandra Urs -12.01.2026
      */
-    public List<OrderResponseDto> getAllOrdersForAdmin() {
-        return orderServiceClient.getAllOrders();
+    public OrderPageResponseDto getAllOrdersForAdmin(Long afterId, int size) {
+        return orderServiceClient.getOrdersPage(afterId, size);
     }
 
     /**
-     * Fetches orders associated with a specific client name. [cite: 10, 16]
+     * Retrieves the order counts and revenue per status and per day, as aggregated by the
+     * Order microservice, instead of summing over all orders here.
+     *
+     * @return OrderStatsDto the order statistics.
+     */
+    public OrderStatsDto getOrderStats() {
+        return orderServiceClient.getOrderStats();
+    }
+
+    /**
+     * Fetches one page of the orders associated with a specific client name, newest first. [cite: 10, 16]
      *
      * @param clientName the name of the client.
+     * @param page the zero-based page index.
+     * @param size the maximum number of orders in the page.
      * @return List&lt;OrderResponseDto&gt; the list of client orders.
      * @author Ruxandra Urs - 12.01.2026
      */
-    public List<OrderResponseDto> getOrdersForClient(String clientName) {
-        return orderServiceClient.getOrdersByClient(clientName);
+    public List<OrderResponseDto> getOrdersForClient(String clientName, int page, int size) {
+        return orderServiceClient.getOrdersByClient(clientName, page, size);
     }
 
     /**
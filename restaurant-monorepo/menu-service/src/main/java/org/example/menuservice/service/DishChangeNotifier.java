@@ -0,0 +1,77 @@
+package org.example.menuservice.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+
+/**
+ * Tells every Order microservice instance to drop its cached copy of a dish once a dish change is committed.
+ * The instances are taken from service discovery and called one by one, since a load-balanced call
+ * would only reach one of them. The call carries the shared internal-api.token.
+ * A failed notification only delays the refresh until the cache entry expires, so it never fails the write.
+ *
+ * @version 1.0
+ */
+@Component
+public class DishChangeNotifier {
+
+    private static final Logger logger = LoggerFactory.getLogger(DishChangeNotifier.class);
+
+    static final String ORDER_SERVICE = "order-service";
+    static final String TOKEN_HEADER = "X-Internal-Token";
+
+    private final DiscoveryClient discoveryClient;
+    private final RestClient restClient;
+    private final String token;
+
+    @Autowired
+    public DishChangeNotifier(DiscoveryClient discoveryClient, RestClient.Builder restClientBuilder,
+                              @Value("${internal-api.token:}") String token) {
+        this(discoveryClient, restClientBuilder.requestFactory(requestFactory()).build(), token);
+    }
+
+    DishChangeNotifier(DiscoveryClient discoveryClient, RestClient restClient, String token) {
+        this.discoveryClient = discoveryClient;
+        this.restClient = restClient;
+        this.token = token;
+    }
+
+    /**
+     * Forwards a committed dish change to every Order microservice instance.
+     *
+     * @param event the dish change.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onDishChanged(DishChangedEvent event) {
+        for (ServiceInstance instance : discoveryClient.getInstances(ORDER_SERVICE)) {
+            try {
+                restClient.delete()
+                        .uri(instance.getUri() + "/internal/dish-catalog/{dishId}", event.dishId())
+                        .header(TOKEN_HEADER, token)
+                        .retrieve()
+                        .toBodilessEntity();
+            } catch (Exception e) {
+                logger.warn("Could not notify order-service instance {} about change of dish {}: {}",
+                        instance.getUri(), event.dishId(), e.getMessage());
+            }
+        }
+    }
+
+    // short timeouts: the notification runs on the request thread, once per instance
+    private static SimpleClientHttpRequestFactory requestFactory() {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(Duration.ofSeconds(1));
+        requestFactory.setReadTimeout(Duration.ofSeconds(2));
+        return requestFactory;
+    }
+}
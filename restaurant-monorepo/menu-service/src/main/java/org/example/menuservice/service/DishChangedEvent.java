@@ -0,0 +1,9 @@
+package org.example.menuservice.service;
+
+/**
+ * Published by {@link DishServiceImpl} whenever a dish is created, updated or deleted.
+ *
+ * @param dishId the ID of the changed dish.
+ */
+public record DishChangedEvent(Integer dishId) {
+}
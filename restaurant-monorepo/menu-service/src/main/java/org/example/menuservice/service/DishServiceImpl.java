@@ -5,12 +5,12 @@ import org.example.menuservice.dto.DishDto;
 import org.example.menuservice.entity.Category;
 import org.example.menuservice.entity.Dish;
 import org.example.menuservice.entity.Ingredient;
+import org.example.menuservice.mapper.DishMapper;
 import org.example.menuservice.repository.CategoryRepository;
 import org.example.menuservice.repository.DishRepository;
 import org.example.menuservice.repository.IngredientRepository;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Sort;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -36,8 +36,12 @@ public class DishServiceImpl implements IDishService {
     @Autowired
     private IngredientRepository ingredientRepository;
 
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Autowired
-    private ModelMapper modelMapper;
+    private MenuSnapshotStore menuSnapshotStore;
 
     /**
      * Creates a new dish and automatically handles ingredient persistence and category linking.
@@ -62,28 +66,28 @@ public class DishServiceImpl implements IDishService {
                         }))
                 .collect(Collectors.toSet());
 
-        Dish dish = modelMapper.map(dishDto, Dish.class);
-
+        Dish dish = DishMapper.toEntity(dishDto);
         dish.setCategory(category);
         dish.setIngredients(ingredients);
-        dish.setId(null);
         Dish savedDish = dishRepository.save(dish);
+        eventPublisher.publishEvent(new DishChangedEvent(savedDish.getId()));
 
-        return convertToDto(savedDish);
+        return DishMapper.toDto(savedDish);
     }
     /**
-     * Retrieves all dishes from the database including their category details.
+     * Retrieves several dishes in a single query, used by other services to resolve
+     * every dish of an order without one call per item.
+     * Unknown IDs are skipped, so the caller decides how to treat missing dishes.
      *
-     * @return List&lt;DishDto&gt; a list of all dishes.
-     * @author Ruxandra Urs - 12.01.2026
+     * @param ids the IDs of the dishes to load.
+     * @return List&lt;DishDto&gt; the dishes found for the given IDs.
      */
     @Override
-    @Transactional(readOnly = true)
-    public List<DishDto> getAllDishes() {
-        List<Dish> dishes = dishRepository.findAllWithCategories();
-        return dishes.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+    public List<DishDto> getDishesByIds(List<Integer> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        return menuSnapshotStore.current().getDishes(ids);
     }
     /**
      * Retrieves a single dish by its unique identifier.
@@ -94,11 +98,12 @@ public class DishServiceImpl implements IDishService {
      * @author Ruxandra Urs - 12.01.2026
      */
     @Override
-    @Transactional(readOnly = true)
     public DishDto getDishById(Integer id) {
-        Dish dish = dishRepository.findByIdWithCategory(id)
-                .orElseThrow(() -> new EntityNotFoundException("Dish with ID " + id + " not found."));
-        return convertToDto(dish);
+        DishDto dish = menuSnapshotStore.current().getDish(id);
+        if (dish == null) {
+            throw new EntityNotFoundException("Dish with ID " + id + " not found.");
+        }
+        return dish;
     }
     /**
      * Updates an existing dish with new details and validates associations.
@@ -130,7 +135,8 @@ public class DishServiceImpl implements IDishService {
         existingDish.setIngredients(ingredients);
 
         Dish updatedDish = dishRepository.save(existingDish);
-        return convertToDto(updatedDish);
+        eventPublisher.publishEvent(new DishChangedEvent(id));
+        return DishMapper.toDto(updatedDish);
     }
     /**
      * Deletes a dish from the repository based on its ID.
@@ -146,6 +152,7 @@ public class DishServiceImpl implements IDishService {
             throw new EntityNotFoundException("Dish with ID " + id + " not found.");
         }
         dishRepository.deleteById(id);
+        eventPublisher.publishEvent(new DishChangedEvent(id));
     }
 
     /**
@@ -156,28 +163,8 @@ public class DishServiceImpl implements IDishService {
      * @author Ruxandra Urs - 12.01.2026
      */
     @Override
-    @Transactional(readOnly = true)
     public List<DishDto> searchDishByName(String name) {
-        List<Dish> dishes = dishRepository.findByNameContainingIgnoreCaseWithCategory(name);
-        return dishes.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
-    }
-    /**
-     * Filters dishes based on category identifier and availability status.
-     *
-     * @param categoryId the ID of the category.
-     * @param availability the status of the dish.
-     * @return List&lt;DishDto&gt; filtered dishes.
-     * @author Ruxandra Urs - 12.01.2026
-     */
-    @Override
-    @Transactional(readOnly = true)
-    public List<DishDto> filterDishes(Integer categoryId, Boolean availability) {
-        List<Dish> dishes = dishRepository.filterByCriteriaWithCategory(categoryId, availability);
-        return dishes.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return menuSnapshotStore.current().search(name);
     }
     /**
      * Retrieves dishes sorted by a specified field and direction.
@@ -188,39 +175,7 @@ public class DishServiceImpl implements IDishService {
      * @author Ruxandra Urs - 12.01.2026
      */
     @Override
-    @Transactional(readOnly = true)
     public List<DishDto> getDishesSortedBy(String sortBy, String order) {
-        Sort.Direction direction = order.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
-        Sort sort = Sort.by(direction, sortBy);
-
-        List<Dish> dishes = dishRepository.findAll(sort);
-
-        return dishes.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
-    }
-    /**
-     * Utility method to convert a Dish entity to a DishDto.
-     *
-     * @param dish the entity to convert.
-     * @return DishDto the converted data object.
-     * @author Ruxandra Urs - 12.01.2026
-     */
-    private DishDto convertToDto(Dish dish) {
-        DishDto dishDto = modelMapper.map(dish, DishDto.class);
-
-        if (dish.getCategory() != null) {
-            dishDto.setCategoryId(dish.getCategory().getId());
-            dishDto.setCategoryName(dish.getCategory().getName());
-        }
-
-        if (dish.getIngredients() != null) {
-            Set<String> ingredientNames = dish.getIngredients().stream()
-                    .map(Ingredient::getName)
-                    .collect(Collectors.toSet());
-            dishDto.setIngredients(ingredientNames);
-        }
-
-        return dishDto;
+        return menuSnapshotStore.current().sorted(sortBy, order.equalsIgnoreCase("desc"));
     }
 }
\ No newline at end of file
@@ -5,10 +5,9 @@ import java.util.List;
 public interface IDishService {
     DishDto createDish(DishDto dishDto);
     DishDto getDishById(Integer id);
-    List<DishDto> getAllDishes();
+    List<DishDto> getDishesByIds(List<Integer> ids);
     DishDto updateDish(Integer id, DishDto dishDto);
     void deleteDish(Integer id);
     List<DishDto> searchDishByName(String name);
-    List<DishDto> filterDishes(Integer categoryId, Boolean availability);
     List<DishDto> getDishesSortedBy(String sortBy, String order);
 }
@@ -2,15 +2,15 @@ package org.example.menuservice.service;
 
 import org.example.menuservice.dto.IngredientDto;
 import org.example.menuservice.entity.Ingredient;
+import org.example.menuservice.mapper.IngredientMapper;
 import org.example.menuservice.repository.DishRepository;
 import org.example.menuservice.repository.IngredientRepository;
 import jakarta.persistence.EntityNotFoundException;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.stream.Collectors;
 /**
  * Service implementation for ingredient operations.
  * Manages the lifecycle and validations of ingredients.
@@ -28,8 +28,10 @@ public class IngredientServiceImpl implements IIngredientService {
     private DishRepository dishRepository;
 
     @Autowired
-    private ModelMapper modelMapper;
+    private ApplicationEventPublisher eventPublisher;
 
+    @Autowired
+    private MenuSnapshotStore menuSnapshotStore;
 
     /**
      * Persists a new ingredient and ensures its name is unique.
@@ -44,22 +46,21 @@ public class IngredientServiceImpl implements IIngredientService {
             throw new IllegalStateException("Ingredient '" + i.getName() + "' already exists.");
         });
 
-        Ingredient ingredient = modelMapper.map(ingredientDto, Ingredient.class);
+        Ingredient ingredient = IngredientMapper.toEntity(ingredientDto);
         Ingredient savedIngredient = ingredientRepository.save(ingredient);
-        return modelMapper.map(savedIngredient, IngredientDto.class);
+        eventPublisher.publishEvent(new MenuChangedEvent());
+        return IngredientMapper.toDto(savedIngredient);
     }
 
     /**
-     * Lists all available ingredients.
+     * Lists all available ingredients from the menu snapshot.
      *
      * @return List&lt;IngredientDto&gt; all ingredients.
      * @author Ruxandra Urs - 12.01.2026
      */
     @Override
     public List<IngredientDto> getAllIngredients() {
-        return ingredientRepository.findAll().stream()
-                .map(ingredient -> modelMapper.map(ingredient, IngredientDto.class))
-                .collect(Collectors.toList());
+        return menuSnapshotStore.current().getIngredients();
     }
 
     /**
@@ -71,9 +72,11 @@ public class IngredientServiceImpl implements IIngredientService {
      */
     @Override
     public IngredientDto getIngredientById(Integer id) {
-        Ingredient ingredient = ingredientRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Ingredient with ID " + id + " not found."));
-        return modelMapper.map(ingredient, IngredientDto.class);
+        IngredientDto ingredient = menuSnapshotStore.current().getIngredient(id);
+        if (ingredient == null) {
+            throw new EntityNotFoundException("Ingredient with ID " + id + " not found.");
+        }
+        return ingredient;
     }
 
     /**
@@ -95,5 +98,6 @@ public class IngredientServiceImpl implements IIngredientService {
         }
 
         ingredientRepository.deleteById(id);
+        eventPublisher.publishEvent(new MenuChangedEvent());
     }
 }
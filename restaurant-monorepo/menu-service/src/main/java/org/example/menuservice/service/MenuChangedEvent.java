@@ -0,0 +1,8 @@
+package org.example.menuservice.service;
+
+/**
+ * Published by {@link CategoryServiceImpl} and {@link IngredientServiceImpl} whenever a category
+ * or an ingredient is created, updated or deleted.
+ */
+public record MenuChangedEvent() {
+}
@@ -0,0 +1,207 @@
+package org.example.menuservice.service;
+
+import org.example.menuservice.dto.CategoryDto;
+import org.example.menuservice.dto.DishDto;
+import org.example.menuservice.dto.IngredientDto;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Immutable copy of the whole menu (dishes, categories and ingredients) at one version.
+ * Built by {@link MenuSnapshotStore} after every committed menu write and shared by all
+ * concurrent readers, so the DTOs it hands out must not be modified.
+ *
+ * @version 1.0
+ */
+public final class MenuSnapshot {
+
+    private static final Map<String, Function<DishDto, Comparable<?>>> SORT_KEYS = Map.of(
+            "id", DishDto::getId,
+            "name", DishDto::getName,
+            "description", DishDto::getDescription,
+            "price", DishDto::getPrice,
+            "availability", DishDto::isAvailability,
+            "categoryId", DishDto::getCategoryId,
+            "categoryName", DishDto::getCategoryName);
+
+    private final long version;
+    private final String eTag;
+    private final List<DishDto> dishes;
+    private final String[] searchNames;
+    private final Map<Integer, DishDto> dishesById;
+    private final Map<Integer, List<DishDto>> dishesByCategory;
+    private final List<CategoryDto> categories;
+    private final Map<Integer, CategoryDto> categoriesById;
+    private final List<IngredientDto> ingredients;
+    private final Map<Integer, IngredientDto> ingredientsById;
+    // sorted views are built on first request; at most one per sort field and direction
+    private final Map<String, List<DishDto>> sortedDishes = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a snapshot; the given lists are ordered by ID and owned by the snapshot from now on.
+     *
+     * @param origin identifies the store that built the snapshot, so that versions of different
+     *               instances of the service (or of a restarted one) never share an ETag.
+     * @param version the version of the menu, incremented on every rebuild.
+     * @param dishes all dishes.
+     * @param categories all categories.
+     * @param ingredients all ingredients.
+     */
+    public MenuSnapshot(String origin, long version, List<DishDto> dishes, List<CategoryDto> categories,
+                        List<IngredientDto> ingredients) {
+        this.version = version;
+        this.eTag = "\"" + origin + "-" + version + "\"";
+        this.dishes = Collections.unmodifiableList(dishes);
+        this.searchNames = new String[dishes.size()];
+        this.dishesById = HashMap.newHashMap(dishes.size());
+        Map<Integer, List<DishDto>> byCategory = new HashMap<>();
+        for (int i = 0; i < dishes.size(); i++) {
+            DishDto dish = dishes.get(i);
+            if (dish.getIngredients() != null) {
+                dish.setIngredients(Collections.unmodifiableSet(dish.getIngredients()));
+            }
+            searchNames[i] = dish.getName() == null ? "" : dish.getName().toLowerCase(Locale.ROOT);
+            dishesById.put(dish.getId(), dish);
+            byCategory.computeIfAbsent(dish.getCategoryId(), id -> new ArrayList<>()).add(dish);
+        }
+        byCategory.replaceAll((id, list) -> Collections.unmodifiableList(list));
+        this.dishesByCategory = byCategory;
+
+        this.categories = Collections.unmodifiableList(categories);
+        this.categoriesById = HashMap.newHashMap(categories.size());
+        categories.forEach(category -> categoriesById.put(category.getId(), category));
+        this.ingredients = Collections.unmodifiableList(ingredients);
+        this.ingredientsById = HashMap.newHashMap(ingredients.size());
+        ingredients.forEach(ingredient -> ingredientsById.put(ingredient.getId(), ingredient));
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the strong entity tag shared by every menu response built from this snapshot.
+     *
+     * @return String the quoted ETag value.
+     */
+    public String getETag() {
+        return eTag;
+    }
+
+    public List<DishDto> getDishes() {
+        return dishes;
+    }
+
+    public DishDto getDish(Integer id) {
+        return dishesById.get(id);
+    }
+
+    public List<CategoryDto> getCategories() {
+        return categories;
+    }
+
+    public CategoryDto getCategory(Integer id) {
+        return categoriesById.get(id);
+    }
+
+    public List<IngredientDto> getIngredients() {
+        return ingredients;
+    }
+
+    public IngredientDto getIngredient(Integer id) {
+        return ingredientsById.get(id);
+    }
+
+    /**
+     * Returns the dishes with the given IDs, in menu order; unknown IDs are skipped.
+     *
+     * @param ids the IDs of the dishes.
+     * @return List&lt;DishDto&gt; the dishes found.
+     */
+    public List<DishDto> getDishes(Collection<Integer> ids) {
+        List<DishDto> found = new ArrayList<>(ids.size());
+        for (Integer id : new HashSet<>(ids)) {
+            DishDto dish = dishesById.get(id);
+            if (dish != null) {
+                found.add(dish);
+            }
+        }
+        found.sort(Comparator.comparing(DishDto::getId));
+        return found;
+    }
+
+    /**
+     * Returns the dishes whose name contains the given text, ignoring case.
+     *
+     * @param name the text to look for.
+     * @return List&lt;DishDto&gt; matching dishes, in menu order.
+     */
+    public List<DishDto> search(String name) {
+        String needle = name.toLowerCase(Locale.ROOT);
+        List<DishDto> found = new ArrayList<>();
+        for (int i = 0; i < searchNames.length; i++) {
+            if (searchNames[i].contains(needle)) {
+                found.add(dishes.get(i));
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Returns the dishes of a category and/or availability; a null criterion matches every dish.
+     *
+     * @param categoryId the category ID, or null.
+     * @param availability the availability, or null.
+     * @return List&lt;DishDto&gt; matching dishes, in menu order.
+     */
+    public List<DishDto> filter(Integer categoryId, Boolean availability) {
+        List<DishDto> candidates = categoryId == null ? dishes : dishesByCategory.getOrDefault(categoryId, List.of());
+        if (availability == null) {
+            return candidates;
+        }
+        List<DishDto> found = new ArrayList<>(candidates.size());
+        for (DishDto dish : candidates) {
+            if (dish.isAvailability() == availability) {
+                found.add(dish);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Returns all dishes sorted by a DishDto field. Null values come last in ascending order
+     * and first in descending order, as in PostgreSQL; ties keep menu order.
+     *
+     * @param sortBy the field to sort by.
+     * @param descending whether to sort in descending order.
+     * @return List&lt;DishDto&gt; the sorted dishes.
+     * @throws IllegalArgumentException if the dishes cannot be sorted by the given field.
+     */
+    public List<DishDto> sorted(String sortBy, boolean descending) {
+        Function<DishDto, Comparable<?>> key = SORT_KEYS.get(sortBy);
+        if (key == null) {
+            throw new IllegalArgumentException("Cannot sort dishes by '" + sortBy + "'.");
+        }
+        return sortedDishes.computeIfAbsent(sortBy + (descending ? ":desc" : ":asc"), k -> {
+            Comparator<DishDto> comparator = comparing(key);
+            List<DishDto> sorted = new ArrayList<>(dishes);
+            sorted.sort(descending ? comparator.reversed() : comparator);
+            return Collections.unmodifiableList(sorted);
+        });
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Comparator<DishDto> comparing(Function<DishDto, Comparable<?>> key) {
+        return Comparator.comparing((Function) key, Comparator.nullsLast(Comparator.naturalOrder()));
+    }
+}
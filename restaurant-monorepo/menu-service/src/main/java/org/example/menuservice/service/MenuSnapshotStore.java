@@ -0,0 +1,206 @@
+package org.example.menuservice.service;
+
+import org.example.menuservice.dto.CategoryDto;
+import org.example.menuservice.dto.DishDto;
+import org.example.menuservice.dto.IngredientDto;
+import org.example.menuservice.entity.MenuVersion;
+import org.example.menuservice.mapper.CategoryMapper;
+import org.example.menuservice.mapper.DishMapper;
+import org.example.menuservice.mapper.IngredientMapper;
+import org.example.menuservice.repository.CategoryRepository;
+import org.example.menuservice.repository.DishRepository;
+import org.example.menuservice.repository.IngredientRepository;
+import org.example.menuservice.repository.MenuVersionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Holds the current {@link MenuSnapshot} that all menu reads are served from.
+ * Reads only dereference a volatile field, so they neither lock nor touch the database.
+ * Every committed dish, category or ingredient write rebuilds the snapshot from the database
+ * and swaps it in, before the write call returns, so a client always reads its own writes.
+ * Writes also move the menu_version row forward; each instance polls that row and rebuilds
+ * when it moved, so writes made on other instances show up within menu.snapshot.check-interval.
+ * A snapshot older than menu.snapshot.max-age is rebuilt anyway, for changes made around the service.
+ *
+ * @version 1.0
+ */
+@Component
+public class MenuSnapshotStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(MenuSnapshotStore.class);
+
+    private final DishRepository dishRepository;
+    private final CategoryRepository categoryRepository;
+    private final IngredientRepository ingredientRepository;
+    private final MenuVersionRepository menuVersionRepository;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+    private final Duration maxAge;
+
+    private final String origin = Long.toString(ThreadLocalRandom.current().nextLong() >>> 1, 36);
+
+    private volatile MenuSnapshot snapshot;
+    private long version;
+    // the menu_version row and the time (System.nanoTime()) the current snapshot was read at
+    private volatile long loadedMenuVersion;
+    private volatile long loadedAt;
+
+    public MenuSnapshotStore(DishRepository dishRepository,
+                             CategoryRepository categoryRepository,
+                             IngredientRepository ingredientRepository,
+                             MenuVersionRepository menuVersionRepository,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${menu.snapshot.max-age:5m}") Duration maxAge) {
+        this.dishRepository = dishRepository;
+        this.categoryRepository = categoryRepository;
+        this.ingredientRepository = ingredientRepository;
+        this.menuVersionRepository = menuVersionRepository;
+        this.maxAge = maxAge;
+        // a new transaction even when called after the commit of a write, with one consistent view of the three tables
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.readTransaction.setReadOnly(true);
+        // joins the transaction of the write when there is one, so the version moves if and only if the write commits
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Returns the current snapshot, loading it first if there is none yet.
+     *
+     * @return MenuSnapshot the current menu.
+     */
+    public MenuSnapshot current() {
+        MenuSnapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null) {
+                    current = rebuild();
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Loads the whole menu and replaces the current snapshot with it.
+     * Rebuilds run one at a time, so the one that finishes last has read the latest committed state.
+     *
+     * @return MenuSnapshot the new snapshot.
+     */
+    public synchronized MenuSnapshot rebuild() {
+        Loaded loaded = readTransaction.execute(status -> {
+            long menuVersion = menuVersionRepository.findCurrent().orElse(0L);
+            List<DishDto> dishes = DishMapper.fromRows(dishRepository.findAllRows());
+            List<CategoryDto> categories = new ArrayList<>();
+            categoryRepository.findAll(Sort.by("id")).forEach(category -> categories.add(CategoryMapper.toDto(category)));
+            List<IngredientDto> ingredients = new ArrayList<>();
+            ingredientRepository.findAll(Sort.by("id")).forEach(ingredient -> ingredients.add(IngredientMapper.toDto(ingredient)));
+            return new Loaded(new MenuSnapshot(origin, version + 1, dishes, categories, ingredients), menuVersion);
+        });
+        MenuSnapshot rebuilt = loaded.snapshot();
+        version = rebuilt.getVersion();
+        loadedMenuVersion = loaded.menuVersion();
+        loadedAt = System.nanoTime();
+        snapshot = rebuilt;
+        return rebuilt;
+    }
+
+    /**
+     * Rebuilds the snapshot if the menu was changed through another instance since it was
+     * loaded, or if it is older than the maximum age. Costs one single-row read otherwise.
+     */
+    @Scheduled(fixedDelayString = "${menu.snapshot.check-interval:5s}")
+    public void checkForChanges() {
+        if (snapshot == null) {
+            return;
+        }
+        try {
+            long menuVersion = menuVersionRepository.findCurrent().orElse(0L);
+            if (menuVersion != loadedMenuVersion || System.nanoTime() - loadedAt > maxAge.toNanos()) {
+                refresh();
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Could not check the menu version: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Moves the menu version forward when a dish is written.
+     *
+     * @param event the dish change.
+     */
+    @EventListener
+    public void onDishWritten(DishChangedEvent event) {
+        incrementMenuVersion();
+    }
+
+    /**
+     * Moves the menu version forward when a category or ingredient is written.
+     *
+     * @param event the menu change.
+     */
+    @EventListener
+    public void onMenuWritten(MenuChangedEvent event) {
+        incrementMenuVersion();
+    }
+
+    /**
+     * Rebuilds the snapshot once a dish change is committed.
+     *
+     * @param event the dish change.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDishChanged(DishChangedEvent event) {
+        refresh();
+    }
+
+    /**
+     * Rebuilds the snapshot once a category or ingredient change is committed.
+     *
+     * @param event the menu change.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMenuChanged(MenuChangedEvent event) {
+        refresh();
+    }
+
+    private void incrementMenuVersion() {
+        writeTransaction.executeWithoutResult(status -> {
+            if (menuVersionRepository.increment() == 0) {
+                menuVersionRepository.save(new MenuVersion(MenuVersion.ID, 1));
+            }
+        });
+    }
+
+    // the write is already committed, so a failed rebuild must not fail it; dropping the
+    // snapshot makes the next read load the menu again instead of serving stale data
+    private void refresh() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            logger.warn("Could not rebuild the menu snapshot: {}", e.getMessage());
+            snapshot = null;
+        }
+    }
+
+    private record Loaded(MenuSnapshot snapshot, long menuVersion) {
+    }
+}
@@ -0,0 +1,123 @@
+package org.example.menuservice.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.menuservice.controller.MenuJsonCache;
+import org.example.menuservice.dto.DishDto;
+import org.example.menuservice.service.MenuSnapshot;
+import org.example.menuservice.service.MenuSnapshotStore;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cost of producing the body of GET /api/dishes for the full menu: the pre-encoded bytes of
+ * MenuJsonCache against serialising the same snapshot with Jackson on every request, as the
+ * message converter did before (and compressing it, as Tomcat did for gzip clients).
+ * Run with {@code mvn -Pjmh test -Djmh.args="MenuJsonBenchmark -prof gc"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MenuJsonBenchmark {
+
+    @Param({"2000"})
+    private int dishes;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private MenuSnapshot snapshot;
+    private MenuJsonCache menuJsonCache;
+
+    @Setup
+    public void setUp() {
+        List<DishDto> menu = new ArrayList<>(dishes);
+        for (int i = 0; i < dishes; i++) {
+            DishDto dish = new DishDto();
+            dish.setId(i);
+            dish.setName("Dish " + i);
+            dish.setDescription("Description of dish " + i);
+            dish.setPrice(new BigDecimal("24.50"));
+            dish.setAvailability(i % 7 != 0);
+            dish.setCategoryId(i % 10);
+            dish.setCategoryName("Category " + i % 10);
+            Set<String> ingredients = new HashSet<>();
+            for (int j = 0; j < 5; j++) {
+                ingredients.add("Ingredient " + (i + j * 11) % 50);
+            }
+            dish.setIngredients(ingredients);
+            menu.add(dish);
+        }
+        snapshot = new MenuSnapshot("bench", 1, menu, List.of(), List.of());
+
+        // a real store, so that current() costs what it does in production: one volatile read
+        MenuSnapshotStore store = new MenuSnapshotStore(null, null, null, null,
+                Mockito.mock(PlatformTransactionManager.class, Mockito.withSettings().stubOnly()), Duration.ofMinutes(5));
+        ReflectionTestUtils.setField(store, "snapshot", snapshot);
+        menuJsonCache = new MenuJsonCache();
+        ReflectionTestUtils.setField(menuJsonCache, "menuSnapshotStore", store);
+        ReflectionTestUtils.setField(menuJsonCache, "objectMapper", objectMapper);
+    }
+
+    @State(Scope.Thread)
+    public static class Requests {
+        final ServletWebRequest plain = new ServletWebRequest(new MockHttpServletRequest("GET", "/api/dishes"));
+        final ServletWebRequest gzip;
+
+        public Requests() {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/dishes");
+            request.addHeader("Accept-Encoding", "gzip, deflate, br");
+            gzip = new ServletWebRequest(request);
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> cachedPlain(Requests requests) {
+        return menuJsonCache.respond(requests.plain, "all", MenuSnapshot::getDishes);
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> cachedGzip(Requests requests) {
+        return menuJsonCache.respond(requests.gzip, "all", MenuSnapshot::getDishes);
+    }
+
+    @Benchmark
+    public byte[] serializePlain() throws IOException {
+        return objectMapper.writeValueAsBytes(snapshot.getDishes());
+    }
+
+    @Benchmark
+    public byte[] serializeGzip() throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            objectMapper.writeValue(out, snapshot.getDishes());
+        }
+        return compressed.toByteArray();
+    }
+}
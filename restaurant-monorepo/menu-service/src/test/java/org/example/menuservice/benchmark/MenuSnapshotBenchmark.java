@@ -0,0 +1,119 @@
+package org.example.menuservice.benchmark;
+
+import org.example.menuservice.dto.DishDto;
+import org.example.menuservice.dto.DishRow;
+import org.example.menuservice.mapper.DishMapper;
+import org.example.menuservice.repository.CategoryRepository;
+import org.example.menuservice.repository.DishRepository;
+import org.example.menuservice.repository.IngredientRepository;
+import org.example.menuservice.repository.MenuVersionRepository;
+import org.example.menuservice.service.MenuSnapshot;
+import org.example.menuservice.service.MenuSnapshotStore;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Read throughput of the menu endpoints while another thread keeps writing to the menu.
+ * In both groups three threads read the available dishes of a category (GET /api/dishes/filter)
+ * and one thread rebuilds the snapshot back to back, the worst case of a busy admin.
+ * {@code snapshot} reads the shared MenuSnapshot; {@code perRequest} maps the rows of the filter
+ * query on every request as the service did before, without even counting the database round trip.
+ * The repositories are stubs, so a rebuild measures mapping and indexing, not SQL.
+ * Run with {@code mvn -Pjmh test -Djmh.args="MenuSnapshotBenchmark -prof gc"}.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MenuSnapshotBenchmark {
+
+    private static final int CATEGORIES = 10;
+
+    @Param({"2000"})
+    private int dishes;
+
+    private List<DishRow> rows;
+    private List<DishRow> filteredRows;
+    private MenuSnapshotStore store;
+
+    @Setup
+    public void setUp() {
+        rows = new ArrayList<>(dishes * 5);
+        for (int i = 0; i < dishes; i++) {
+            int category = i % CATEGORIES;
+            for (int j = 0; j < 5; j++) {
+                rows.add(new DishRow(i, "Dish " + i, "Description of dish " + i, new BigDecimal("24.50"),
+                        i % 7 != 0, category, "Category " + category, "Ingredient " + (i + j * 11) % 50));
+            }
+        }
+
+        filteredRows = rows.stream().filter(row -> row.categoryId() == 3 && row.availability()).toList();
+
+        DishRepository dishRepository = stub(DishRepository.class);
+        CategoryRepository categoryRepository = stub(CategoryRepository.class);
+        IngredientRepository ingredientRepository = stub(IngredientRepository.class);
+        when(dishRepository.findAllRows()).thenReturn(rows);
+        when(categoryRepository.findAll(any(Sort.class))).thenReturn(List.of());
+        when(ingredientRepository.findAll(any(Sort.class))).thenReturn(List.of());
+        store = new MenuSnapshotStore(dishRepository, categoryRepository, ingredientRepository,
+                stub(MenuVersionRepository.class), stub(PlatformTransactionManager.class), Duration.ofMinutes(5));
+        store.rebuild();
+    }
+
+    @Benchmark
+    @Group("snapshot")
+    @GroupThreads(3)
+    public List<DishDto> snapshotRead() {
+        return store.current().filter(3, true);
+    }
+
+    @Benchmark
+    @Group("snapshot")
+    @GroupThreads(1)
+    public MenuSnapshot snapshotWrite() {
+        return store.rebuild();
+    }
+
+    @Benchmark
+    @Group("perRequest")
+    @GroupThreads(3)
+    public List<DishDto> perRequestRead() {
+        return DishMapper.fromRows(filteredRows);
+    }
+
+    @Benchmark
+    @Group("perRequest")
+    @GroupThreads(1)
+    public MenuSnapshot perRequestWrite() {
+        return store.rebuild();
+    }
+
+    private static <T> T stub(Class<T> type) {
+        return Mockito.mock(type, Mockito.withSettings().stubOnly());
+    }
+}
@@ -3,6 +3,9 @@ package org.example.menuservice.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.example.menuservice.dto.CategoryDto;
 import org.example.menuservice.service.CategoryServiceImpl;
+import org.example.menuservice.service.MenuSnapshot;
+import org.example.menuservice.service.MenuSnapshotStore;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -12,10 +15,12 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.Collections;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -30,9 +35,17 @@ class CategoryControllerTest {
     @MockBean
     private CategoryServiceImpl categoryService;
 
+    @MockBean
+    private MenuSnapshotStore menuSnapshotStore;
+
     @Autowired
     private ObjectMapper objectMapper;
 
+    @BeforeEach
+    void setUp() {
+        when(menuSnapshotStore.current()).thenReturn(new MenuSnapshot("test", 7, List.of(), List.of(), List.of()));
+    }
+
     @Test
     void createCategory_ReturnsCreated() throws Exception {
         CategoryDto dto = new CategoryDto();
@@ -87,4 +100,12 @@ class CategoryControllerTest {
         mockMvc.perform(delete("/api/categories/1"))
                 .andExpect(status().isNoContent());
     }
-}
\ No newline at end of file
+
+    @Test
+    void getAllCategories_UnchangedMenu_ReturnsNotModified() throws Exception {
+        mockMvc.perform(get("/api/categories").header("If-None-Match", "\"test-7\""))
+                .andExpect(status().isNotModified());
+
+        verifyNoInteractions(categoryService);
+    }
+}
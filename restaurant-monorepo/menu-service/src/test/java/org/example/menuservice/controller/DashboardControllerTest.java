@@ -1,6 +1,8 @@
 package org.example.menuservice.controller;
 
+import org.example.menuservice.dto.OrderPageResponseDto;
 import org.example.menuservice.dto.OrderResponseDto;
+import org.example.menuservice.dto.OrderStatsDto;
 import org.example.menuservice.dto.UserResponseDto;
 import org.example.menuservice.service.DashboardService;
 import org.junit.jupiter.api.Test;
@@ -10,10 +12,14 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.math.BigDecimal;
 import java.util.Collections;
+import java.util.Map;
 
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(DashboardController.class)
@@ -28,23 +34,46 @@ class DashboardControllerTest {
 
     @Test
     void getAllOrders_ReturnsOk() throws Exception {
-        when(dashboardService.getAllOrdersForAdmin())
-                .thenReturn(Collections.singletonList(new OrderResponseDto()));
+        when(dashboardService.getAllOrdersForAdmin(7L, 100))
+                .thenReturn(new OrderPageResponseDto(Collections.singletonList(new OrderResponseDto()), 8L));
+
+        mockMvc.perform(get("/api/menu/dashboard/orders").param("after", "7"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nextCursor").value(8));
+    }
 
-        mockMvc.perform(get("/api/menu/dashboard/orders"))
+    @Test
+    void getOrderStats_ReturnsOk() throws Exception {
+        when(dashboardService.getOrderStats())
+                .thenReturn(new OrderStatsDto(3, new BigDecimal("45.00"), Map.of(), Map.of()));
+
+        mockMvc.perform(get("/api/menu/dashboard/orders/stats"))
                 .andExpect(status().isOk());
     }
 
     @Test
     void getClientOrders_ReturnsOk() throws Exception {
         String name = "Diana";
-        when(dashboardService.getOrdersForClient(name))
+        when(dashboardService.getOrdersForClient(name, 0, 100))
                 .thenReturn(Collections.singletonList(new OrderResponseDto()));
 
         mockMvc.perform(get("/api/menu/dashboard/my-orders").param("name", name))
                 .andExpect(status().isOk());
     }
 
+    @Test
+    void getClientOrders_PassesPageAndSize() throws Exception {
+        String name = "Diana";
+        when(dashboardService.getOrdersForClient(name, 3, 25))
+                .thenReturn(Collections.singletonList(new OrderResponseDto()));
+
+        mockMvc.perform(get("/api/menu/dashboard/my-orders").param("name", name)
+                        .param("page", "3").param("size", "25"))
+                .andExpect(status().isOk());
+
+        verify(dashboardService).getOrdersForClient(name, 3, 25);
+    }
+
     @Test
     void searchUsers_ReturnsOk() throws Exception {
         String name = "Diana";
@@ -1,26 +1,38 @@
 package org.example.menuservice.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.menuservice.dto.CategoryDto;
 import org.example.menuservice.dto.DishDto;
 import org.example.menuservice.service.DishServiceImpl;
+import org.example.menuservice.service.MenuSnapshot;
+import org.example.menuservice.service.MenuSnapshotStore;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
-import java.util.Arrays;
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(DishController.class)
+@Import(MenuJsonCache.class)
 @AutoConfigureMockMvc(addFilters = false)
 class DishControllerTest {
 
@@ -30,9 +42,17 @@ class DishControllerTest {
     @MockBean
     private DishServiceImpl dishService;
 
+    @MockBean
+    private MenuSnapshotStore menuSnapshotStore;
+
     @Autowired
     private ObjectMapper objectMapper;
 
+    @BeforeEach
+    void setUp() {
+        when(menuSnapshotStore.current()).thenReturn(menu(1));
+    }
+
     @Test
     void createDish_ReturnsCreated() throws Exception {
         DishDto dishDto = new DishDto();
@@ -49,15 +69,11 @@ class DishControllerTest {
 
     @Test
     void getAllDishes_ReturnsList() throws Exception {
-        DishDto d1 = new DishDto();
-        d1.setName("Pizza");
-        List<DishDto> list = Arrays.asList(d1);
-
-        when(dishService.getAllDishes()).thenReturn(list);
-
         mockMvc.perform(get("/api/dishes"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.size()").value(1));
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.size()").value(1))
+                .andExpect(jsonPath("$[0].name").value("Pizza 0"));
     }
 
     @Test
@@ -72,6 +88,15 @@ class DishControllerTest {
                 .andExpect(jsonPath("$.name").value("Burger"));
     }
 
+    @Test
+    void getDishesByIds_ReturnsList() throws Exception {
+        when(dishService.getDishesByIds(List.of(1, 2))).thenReturn(List.of(new DishDto(), new DishDto()));
+
+        mockMvc.perform(get("/api/dishes/batch").param("ids", "1", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()").value(2));
+    }
+
     @Test
     void updateDish_ReturnsUpdatedDish() throws Exception {
         DishDto dishDto = new DishDto();
@@ -105,12 +130,27 @@ class DishControllerTest {
 
     @Test
     void filterDishes_ReturnsList() throws Exception {
-        when(dishService.filterDishes(1, true)).thenReturn(List.of(new DishDto()));
-
         mockMvc.perform(get("/api/dishes/filter")
                         .param("categoryId", "1")
                         .param("availability", "true"))
-                .andExpect(status().isOk());
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()").value(1));
+        mockMvc.perform(get("/api/dishes/filter")
+                        .param("categoryId", "2"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("[]"));
+    }
+
+    @Test
+    void filterDishes_UnknownCategories_ReturnEmptyList() throws Exception {
+        for (String categoryId : new String[]{"2", "3"}) {
+            mockMvc.perform(get("/api/dishes/filter").param("categoryId", categoryId).param("availability", "true"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().json("[]"));
+        }
+        mockMvc.perform(get("/api/dishes/filter").param("categoryId", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()").value(1));
     }
 
     @Test
@@ -122,4 +162,65 @@ class DishControllerTest {
                         .param("order", "asc"))
                 .andExpect(status().isOk());
     }
-}
\ No newline at end of file
+
+    @Test
+    void getAllDishes_ReturnsMenuETag() throws Exception {
+        mockMvc.perform(get("/api/dishes"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"test-7\""))
+                .andExpect(header().string("Cache-Control", "no-cache, private"));
+    }
+
+    @Test
+    void filterDishes_UnchangedMenu_ReturnsNotModified() throws Exception {
+        mockMvc.perform(get("/api/dishes/filter").param("categoryId", "1")
+                        .header("If-None-Match", "\"test-7\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"test-7\""))
+                .andExpect(content().string(""));
+
+        verifyNoInteractions(dishService);
+    }
+
+    @Test
+    void getAllDishes_StaleETag_ReturnsMenu() throws Exception {
+        mockMvc.perform(get("/api/dishes").header("If-None-Match", "\"test-6\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"test-7\""))
+                .andExpect(jsonPath("$.size()").value(1));
+    }
+
+    @Test
+    void getAllDishes_AcceptsGzip_ReturnsCompressedMenu() throws Exception {
+        when(menuSnapshotStore.current()).thenReturn(menu(50));
+
+        byte[] body = mockMvc.perform(get("/api/dishes").header("Accept-Encoding", "gzip, deflate, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().string("Vary", "Accept-Encoding"))
+                .andExpect(header().string("ETag", "\"test-7-gzip\""))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            assertEquals(50, objectMapper.readValue(in, DishDto[].class).length);
+        }
+        verifyNoInteractions(dishService);
+    }
+
+    private MenuSnapshot menu(int dishes) {
+        List<DishDto> menu = new ArrayList<>();
+        for (int i = 0; i < dishes; i++) {
+            DishDto dish = new DishDto();
+            dish.setId(i);
+            dish.setName("Pizza " + i);
+            dish.setAvailability(true);
+            dish.setCategoryId(1);
+            dish.setIngredients(new HashSet<>(Set.of("Tomato")));
+            menu.add(dish);
+        }
+        CategoryDto pizza = new CategoryDto();
+        pizza.setId(1);
+        pizza.setName("Pizza");
+        return new MenuSnapshot("test", 7, menu, List.of(pizza), List.of());
+    }
+}
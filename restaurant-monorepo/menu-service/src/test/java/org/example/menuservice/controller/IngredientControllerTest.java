@@ -3,6 +3,9 @@ package org.example.menuservice.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.example.menuservice.dto.IngredientDto;
 import org.example.menuservice.service.IngredientServiceImpl;
+import org.example.menuservice.service.MenuSnapshot;
+import org.example.menuservice.service.MenuSnapshotStore;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -12,9 +15,11 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.Collections;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -29,9 +34,17 @@ class IngredientControllerTest {
     @MockBean
     private IngredientServiceImpl ingredientService;
 
+    @MockBean
+    private MenuSnapshotStore menuSnapshotStore;
+
     @Autowired
     private ObjectMapper objectMapper;
 
+    @BeforeEach
+    void setUp() {
+        when(menuSnapshotStore.current()).thenReturn(new MenuSnapshot("test", 7, List.of(), List.of(), List.of()));
+    }
+
     @Test
     void createIngredient_ReturnsCreated() throws Exception {
         IngredientDto dto = new IngredientDto();
@@ -74,4 +87,12 @@ class IngredientControllerTest {
         mockMvc.perform(delete("/api/ingredients/1"))
                 .andExpect(status().isNoContent());
     }
-}
\ No newline at end of file
+
+    @Test
+    void getAllIngredients_UnchangedMenu_ReturnsNotModified() throws Exception {
+        mockMvc.perform(get("/api/ingredients").header("If-None-Match", "\"test-7\""))
+                .andExpect(status().isNotModified());
+
+        verifyNoInteractions(ingredientService);
+    }
+}
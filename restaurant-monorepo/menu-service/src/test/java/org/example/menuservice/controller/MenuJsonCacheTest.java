@@ -0,0 +1,139 @@
+package org.example.menuservice.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.menuservice.dto.CategoryDto;
+import org.example.menuservice.service.MenuSnapshot;
+import org.example.menuservice.service.MenuSnapshotStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MenuJsonCacheTest {
+
+    @Mock
+    private MenuSnapshotStore menuSnapshotStore;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private MenuJsonCache menuJsonCache;
+
+    @Test
+    void respond_EncodesOncePerSnapshot() {
+        AtomicInteger encoded = new AtomicInteger();
+        Function<MenuSnapshot, ?> view = snapshot -> {
+            encoded.incrementAndGet();
+            return snapshot.getCategories();
+        };
+        when(menuSnapshotStore.current()).thenReturn(menu(1, "Drinks"));
+
+        ResponseEntity<byte[]> first = menuJsonCache.respond(request(), "categories", view);
+        ResponseEntity<byte[]> second = menuJsonCache.respond(request(), "categories", view);
+
+        assertSame(first.getBody(), second.getBody());
+        assertEquals(1, encoded.get());
+
+        when(menuSnapshotStore.current()).thenReturn(menu(2, "Desserts"));
+        ResponseEntity<byte[]> afterWrite = menuJsonCache.respond(request(), "categories", view);
+
+        assertEquals(2, encoded.get());
+        assertEquals("[{\"id\":1,\"name\":\"Desserts\"}]", new String(afterWrite.getBody(), StandardCharsets.UTF_8));
+        assertEquals("\"test-2\"", afterWrite.getHeaders().getETag());
+    }
+
+    @Test
+    void respond_KeysMappedTogether_ShareOneBody() {
+        AtomicInteger encoded = new AtomicInteger();
+        when(menuSnapshotStore.current()).thenReturn(menu(1, "Drinks"));
+
+        List<ResponseEntity<byte[]>> responses = List.of(5, 6).stream()
+                .map(categoryId -> menuJsonCache.respond(request(),
+                        snapshot -> snapshot.getCategory(categoryId) == null ? "unknown" : "category:" + categoryId,
+                        snapshot -> {
+                            encoded.incrementAndGet();
+                            return List.of();
+                        }))
+                .toList();
+
+        assertSame(responses.get(0).getBody(), responses.get(1).getBody());
+        assertEquals(1, encoded.get());
+    }
+
+    @Test
+    void respond_ConcurrentMisses_EncodeOnce() throws Exception {
+        AtomicInteger encoded = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        Function<MenuSnapshot, ?> view = snapshot -> {
+            encoded.incrementAndGet();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return snapshot.getCategories();
+        };
+        when(menuSnapshotStore.current()).thenReturn(menu(1, "Drinks"));
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<ResponseEntity<byte[]>>> responses = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                responses.add(executor.submit(() -> {
+                    start.await();
+                    return menuJsonCache.respond(request(), "categories", view);
+                }));
+            }
+            start.countDown();
+            for (Future<ResponseEntity<byte[]>> response : responses) {
+                assertSame(responses.get(0).get().getBody(), response.get().getBody());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, encoded.get());
+    }
+
+    @Test
+    void acceptsGzip_HonoursQualityAndWildcard() {
+        assertTrue(MenuJsonCache.acceptsGzip("gzip, deflate, br"));
+        assertTrue(MenuJsonCache.acceptsGzip("br;q=1.0, GZIP;q=0.5"));
+        assertTrue(MenuJsonCache.acceptsGzip("*"));
+        assertFalse(MenuJsonCache.acceptsGzip(null));
+        assertFalse(MenuJsonCache.acceptsGzip("identity"));
+        assertFalse(MenuJsonCache.acceptsGzip("gzip;q=0"));
+        assertFalse(MenuJsonCache.acceptsGzip("*, gzip;q=0.0"));
+        assertTrue(MenuJsonCache.acceptsGzip("*;q=0, gzip"));
+    }
+
+    private static ServletWebRequest request() {
+        return new ServletWebRequest(new MockHttpServletRequest("GET", "/api/categories"));
+    }
+
+    private static MenuSnapshot menu(long version, String category) {
+        CategoryDto categoryDto = new CategoryDto();
+        categoryDto.setId(1);
+        categoryDto.setName(category);
+        return new MenuSnapshot("test", version, List.of(), List.of(categoryDto), List.of());
+    }
+}
@@ -0,0 +1,96 @@
+package org.example.menuservice.mapper;
+
+import org.example.menuservice.dto.CategoryDto;
+import org.example.menuservice.dto.DishDto;
+import org.example.menuservice.dto.IngredientDto;
+import org.example.menuservice.entity.Category;
+import org.example.menuservice.entity.Dish;
+import org.example.menuservice.entity.Ingredient;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DishMapperTest {
+
+    @Test
+    void toDto_FlattensCategoryAndIngredients() {
+        Category category = new Category();
+        category.setId(3);
+        category.setName("Pizza");
+        Ingredient tomato = new Ingredient();
+        tomato.setId(1);
+        tomato.setName("Tomato");
+        Ingredient cheese = new Ingredient();
+        cheese.setId(2);
+        cheese.setName("Cheese");
+
+        Dish dish = new Dish();
+        dish.setId(1);
+        dish.setName("Margherita");
+        dish.setDescription("Classic");
+        dish.setPrice(new BigDecimal("32.00"));
+        dish.setAvailability(false);
+        dish.setCategory(category);
+        dish.setIngredients(Set.of(tomato, cheese));
+
+        DishDto result = DishMapper.toDto(dish);
+
+        assertEquals(1, result.getId());
+        assertEquals("Margherita", result.getName());
+        assertEquals("Classic", result.getDescription());
+        assertEquals(new BigDecimal("32.00"), result.getPrice());
+        assertFalse(result.isAvailability());
+        assertEquals(3, result.getCategoryId());
+        assertEquals("Pizza", result.getCategoryName());
+        assertEquals(Set.of("Tomato", "Cheese"), result.getIngredients());
+    }
+
+    @Test
+    void toDto_WithoutAssociations_LeavesThemEmpty() {
+        DishDto result = DishMapper.toDto(new Dish());
+
+        assertNull(result.getCategoryId());
+        assertNull(result.getIngredients());
+        assertNull(DishMapper.toDto(null));
+    }
+
+    @Test
+    void toEntity_CopiesOnlyPlainFields() {
+        DishDto dishDto = new DishDto();
+        dishDto.setId(9);
+        dishDto.setName("Margherita");
+        dishDto.setPrice(new BigDecimal("32.00"));
+        dishDto.setAvailability(true);
+        dishDto.setCategoryId(3);
+        dishDto.setIngredients(Set.of("Tomato"));
+
+        Dish result = DishMapper.toEntity(dishDto);
+
+        assertNull(result.getId());
+        assertEquals("Margherita", result.getName());
+        assertTrue(result.isAvailability());
+        assertNull(result.getCategory());
+        assertNull(result.getIngredients());
+    }
+
+    @Test
+    void categoryAndIngredientMappers_CopyIdAndName() {
+        Category category = new Category();
+        category.setId(3);
+        category.setName("Pizza");
+        IngredientDto ingredientDto = new IngredientDto();
+        ingredientDto.setName("Basil");
+
+        CategoryDto categoryDto = CategoryMapper.toDto(category);
+        Ingredient ingredient = IngredientMapper.toEntity(ingredientDto);
+        ingredient.setId(5);
+
+        assertEquals(3, categoryDto.getId());
+        assertEquals("Pizza", categoryDto.getName());
+        assertEquals(5, IngredientMapper.toDto(ingredient).getId());
+        assertEquals("Basil", IngredientMapper.toDto(ingredient).getName());
+    }
+}
@@ -0,0 +1,92 @@
+package org.example.menuservice.repository;
+
+import org.example.menuservice.dto.DishDto;
+import org.example.menuservice.entity.Category;
+import org.example.menuservice.entity.Dish;
+import org.example.menuservice.entity.Ingredient;
+import org.example.menuservice.mapper.DishMapper;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class DishRepositoryTest {
+
+    private static final int DISHES = 30;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private DishRepository dishRepository;
+
+    @BeforeEach
+    void setUp() {
+        Category pizza = entityManager.persist(category("Pizza"));
+        Category drinks = entityManager.persist(category("Drinks"));
+        List<Ingredient> ingredients = List.of(
+                entityManager.persist(ingredient("Tomato")),
+                entityManager.persist(ingredient("Cheese")),
+                entityManager.persist(ingredient("Basil")));
+
+        for (int i = 0; i < DISHES; i++) {
+            Dish dish = new Dish();
+            dish.setName("Dish " + i);
+            dish.setPrice(new BigDecimal(10 + i));
+            dish.setAvailability(i % 2 == 0);
+            dish.setCategory(i % 3 == 0 ? drinks : pizza);
+            // dishes in Drinks have no ingredients
+            dish.setIngredients(i % 3 == 0 ? new HashSet<>() : new HashSet<>(ingredients.subList(0, 1 + i % 3)));
+            entityManager.persist(dish);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void findAllRows_LoadsWholeMenuInOneStatement() {
+        List<DishDto> menu = countingStatements(1, () -> DishMapper.fromRows(dishRepository.findAllRows()));
+
+        assertThat(menu).hasSize(DISHES);
+        DishDto first = menu.get(0);
+        assertThat(first.getName()).isEqualTo("Dish 0");
+        assertThat(first.getCategoryName()).isEqualTo("Drinks");
+        assertThat(first.getIngredients()).isEmpty();
+        assertThat(menu.get(2).getIngredients()).containsExactlyInAnyOrder("Tomato", "Cheese", "Basil");
+    }
+
+    private <T> T countingStatements(long expected, Supplier<T> query) {
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        T result = query.get();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(expected);
+        return result;
+    }
+
+    private Category category(String name) {
+        Category category = new Category();
+        category.setName(name);
+        return category;
+    }
+
+    private Ingredient ingredient(String name) {
+        Ingredient ingredient = new Ingredient();
+        ingredient.setName(name);
+        return ingredient;
+    }
+}
@@ -11,7 +11,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Collections;
 import java.util.List;
@@ -19,7 +19,6 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,7 +29,9 @@ class CategoryServiceImplTest {
     @Mock
     private DishRepository dishRepository;
     @Mock
-    private ModelMapper modelMapper;
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private MenuSnapshotStore menuSnapshotStore;
 
     @InjectMocks
     private CategoryServiceImpl categoryService;
@@ -41,11 +42,12 @@ class CategoryServiceImplTest {
         dto.setName("Drinks");
 
         when(categoryRepository.findByName("Drinks")).thenReturn(Optional.empty());
-        when(categoryRepository.save(any(Category.class))).thenReturn(new Category());
-        when(modelMapper.map(any(), eq(CategoryDto.class))).thenReturn(dto);
+        when(categoryRepository.save(any(Category.class))).thenAnswer(i -> i.getArguments()[0]);
 
         CategoryDto result = categoryService.createCategory(dto);
         assertNotNull(result);
+        assertEquals("Drinks", result.getName());
+        verify(eventPublisher).publishEvent(new MenuChangedEvent());
     }
 
     @Test
@@ -69,6 +71,7 @@ class CategoryServiceImplTest {
         categoryService.deleteCategory(id);
 
         verify(categoryRepository).deleteById(id);
+        verify(eventPublisher).publishEvent(new MenuChangedEvent());
     }
 
     @Test
@@ -81,6 +84,19 @@ class CategoryServiceImplTest {
         verify(categoryRepository, never()).deleteById(id);
     }
 
+    @Test
+    void getAllCategories_ReadsSnapshot() {
+        CategoryDto drinks = new CategoryDto();
+        drinks.setId(1);
+        drinks.setName("Drinks");
+        when(menuSnapshotStore.current()).thenReturn(new MenuSnapshot("test", 1, List.of(), List.of(drinks), List.of()));
+
+        assertEquals(List.of(drinks), categoryService.getAllCategories());
+        assertEquals(drinks, categoryService.getCategoryById(1));
+        assertThrows(EntityNotFoundException.class, () -> categoryService.getCategoryById(2));
+        verifyNoInteractions(categoryRepository);
+    }
+
     @Test
     void updateCategory_NotFound() {
         when(categoryRepository.findById(1)).thenReturn(Optional.empty());
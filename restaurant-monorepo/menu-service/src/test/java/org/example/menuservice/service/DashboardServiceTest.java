@@ -2,7 +2,9 @@ package org.example.menuservice.service;
 
 import org.example.menuservice.client.OrderServiceClient;
 import org.example.menuservice.client.UserServiceClient;
+import org.example.menuservice.dto.OrderPageResponseDto;
 import org.example.menuservice.dto.OrderResponseDto;
+import org.example.menuservice.dto.OrderStatsDto;
 import org.example.menuservice.dto.UserResponseDto;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -10,10 +12,15 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.math.BigDecimal;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,26 +36,39 @@ class DashboardServiceTest {
     private DashboardService dashboardService;
 
     @Test
-    void getAllOrdersForAdmin_Success() {
-        List<OrderResponseDto> mockOrders = Collections.singletonList(new OrderResponseDto());
-        when(orderServiceClient.getAllOrders()).thenReturn(mockOrders);
+    void getAllOrdersForAdmin_ReturnsOnePageWithItsCursor() {
+        OrderPageResponseDto page = new OrderPageResponseDto(List.of(new OrderResponseDto(), new OrderResponseDto()), 2L);
+        when(orderServiceClient.getOrdersPage(null, 2)).thenReturn(page);
 
-        List<OrderResponseDto> result = dashboardService.getAllOrdersForAdmin();
+        OrderPageResponseDto result = dashboardService.getAllOrdersForAdmin(null, 2);
 
-        assertEquals(1, result.size());
-        verify(orderServiceClient).getAllOrders();
+        assertEquals(2, result.getItems().size());
+        assertEquals(2L, result.getNextCursor());
+        verify(orderServiceClient, times(1)).getOrdersPage(any(), anyInt());
+        verifyNoMoreInteractions(orderServiceClient);
+    }
+
+    @Test
+    void getOrderStats_UsesAggregatesFromOrderService() {
+        OrderStatsDto stats = new OrderStatsDto(3, new BigDecimal("45.00"), Map.of(), Map.of());
+        when(orderServiceClient.getOrderStats()).thenReturn(stats);
+
+        OrderStatsDto result = dashboardService.getOrderStats();
+
+        assertEquals(stats, result);
+        verify(orderServiceClient, never()).getOrdersPage(any(), anyInt());
     }
 
     @Test
     void getOrdersForClient_Success() {
         String clientName = "Diana";
         List<OrderResponseDto> mockOrders = Collections.singletonList(new OrderResponseDto());
-        when(orderServiceClient.getOrdersByClient(clientName)).thenReturn(mockOrders);
+        when(orderServiceClient.getOrdersByClient(clientName, 2, 20)).thenReturn(mockOrders);
 
-        List<OrderResponseDto> result = dashboardService.getOrdersForClient(clientName);
+        List<OrderResponseDto> result = dashboardService.getOrdersForClient(clientName, 2, 20);
 
         assertEquals(1, result.size());
-        verify(orderServiceClient).getOrdersByClient(clientName);
+        verify(orderServiceClient).getOrdersByClient(clientName, 2, 20);
     }
 
     @Test
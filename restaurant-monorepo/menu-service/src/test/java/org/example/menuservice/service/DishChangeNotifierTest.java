@@ -0,0 +1,67 @@
+package org.example.menuservice.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.http.HttpMethod;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withNoContent;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+
+@ExtendWith(MockitoExtension.class)
+class DishChangeNotifierTest {
+
+    @Mock
+    private DiscoveryClient discoveryClient;
+
+    private MockRestServiceServer server;
+    private DishChangeNotifier dishChangeNotifier;
+
+    @BeforeEach
+    void setUp() {
+        RestClient.Builder builder = RestClient.builder();
+        server = MockRestServiceServer.bindTo(builder).build();
+        dishChangeNotifier = new DishChangeNotifier(discoveryClient, builder.build(), "s3cret");
+    }
+
+    @Test
+    void onDishChanged_EvictsDishOnEveryOrderServiceInstance() {
+        when(discoveryClient.getInstances("order-service")).thenReturn(List.of(instance(8081), instance(8091)));
+        for (int port : new int[]{8081, 8091}) {
+            server.expect(requestTo("http://orders:" + port + "/internal/dish-catalog/7"))
+                    .andExpect(method(HttpMethod.DELETE))
+                    .andExpect(header("X-Internal-Token", "s3cret"))
+                    .andRespond(withNoContent());
+        }
+
+        dishChangeNotifier.onDishChanged(new DishChangedEvent(7));
+
+        server.verify();
+    }
+
+    @Test
+    void onDishChanged_OneInstanceDown_StillNotifiesTheOthers() {
+        when(discoveryClient.getInstances("order-service")).thenReturn(List.of(instance(8081), instance(8091)));
+        server.expect(requestTo("http://orders:8081/internal/dish-catalog/7")).andRespond(withServerError());
+        server.expect(requestTo("http://orders:8091/internal/dish-catalog/7")).andRespond(withNoContent());
+
+        assertDoesNotThrow(() -> dishChangeNotifier.onDishChanged(new DishChangedEvent(7)));
+        server.verify();
+    }
+
+    private static ServiceInstance instance(int port) {
+        return new DefaultServiceInstance("order-service-" + port, "order-service", "orders", port, false);
+    }
+}
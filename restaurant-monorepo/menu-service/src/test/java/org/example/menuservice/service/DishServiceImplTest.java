@@ -2,9 +2,11 @@ package org.example.menuservice.service;
 
 import jakarta.persistence.EntityNotFoundException;
 import org.example.menuservice.dto.DishDto;
+import org.example.menuservice.dto.DishRow;
 import org.example.menuservice.entity.Category;
 import org.example.menuservice.entity.Dish;
 import org.example.menuservice.entity.Ingredient;
+import org.example.menuservice.mapper.DishMapper;
 import org.example.menuservice.repository.CategoryRepository;
 import org.example.menuservice.repository.DishRepository;
 import org.example.menuservice.repository.IngredientRepository;
@@ -13,14 +15,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
-import org.springframework.data.domain.Sort;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.math.BigDecimal;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,7 +34,9 @@ class DishServiceImplTest {
     @Mock
     private IngredientRepository ingredientRepository;
     @Mock
-    private ModelMapper modelMapper;
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private MenuSnapshotStore menuSnapshotStore;
 
     @InjectMocks
     private DishServiceImpl dishService;
@@ -55,14 +58,12 @@ class DishServiceImplTest {
         when(ingredientRepository.findByName("Cheese")).thenReturn(Optional.empty());
         when(ingredientRepository.save(any(Ingredient.class))).thenAnswer(i -> i.getArguments()[0]);
 
-        Dish mappedDish = new Dish();
-        when(modelMapper.map(inputDto, Dish.class)).thenReturn(mappedDish);
-        when(dishRepository.save(any(Dish.class))).thenReturn(mappedDish);
-        when(modelMapper.map(any(Dish.class), eq(DishDto.class))).thenReturn(new DishDto());
+        when(dishRepository.save(any(Dish.class))).thenAnswer(i -> i.getArguments()[0]);
 
         DishDto result = dishService.createDish(inputDto);
 
         assertNotNull(result);
+        assertEquals(1, result.getCategoryId());
         verify(dishRepository).save(any(Dish.class));
         verify(ingredientRepository, times(1)).save(any(Ingredient.class));
     }
@@ -79,21 +80,16 @@ class DishServiceImplTest {
 
     @Test
     void getDishById_Success() {
-        Dish dish = new Dish();
-        dish.setId(1);
-        dish.setCategory(new Category());
-        dish.setIngredients(new HashSet<>());
-
-        when(dishRepository.findByIdWithCategory(1)).thenReturn(Optional.of(dish));
-        when(modelMapper.map(dish, DishDto.class)).thenReturn(new DishDto());
+        when(menuSnapshotStore.current()).thenReturn(menu(row(1, "Salt")));
 
         DishDto result = dishService.getDishById(1);
         assertNotNull(result);
+        assertEquals(Set.of("Salt"), result.getIngredients());
     }
 
     @Test
     void getDishById_NotFound_ThrowsException() {
-        when(dishRepository.findByIdWithCategory(1)).thenReturn(Optional.empty());
+        when(menuSnapshotStore.current()).thenReturn(menu());
         assertThrows(EntityNotFoundException.class, () -> dishService.getDishById(1));
     }
 
@@ -112,12 +108,12 @@ class DishServiceImplTest {
         when(categoryRepository.findById(2)).thenReturn(Optional.of(newCategory));
         when(ingredientRepository.findByName("Salt")).thenReturn(Optional.of(salt));
         when(dishRepository.save(any(Dish.class))).thenReturn(existingDish);
-        when(modelMapper.map(any(Dish.class), eq(DishDto.class))).thenReturn(new DishDto());
 
         DishDto result = dishService.updateDish(dishId, updateDto);
 
         assertNotNull(result);
         verify(dishRepository).save(existingDish);
+        verify(eventPublisher).publishEvent(new DishChangedEvent(dishId));
     }
 
     @Test
@@ -127,6 +123,7 @@ class DishServiceImplTest {
         dishService.deleteDish(1);
 
         verify(dishRepository).deleteById(1);
+        verify(eventPublisher).publishEvent(new DishChangedEvent(1));
     }
 
     @Test
@@ -136,20 +133,53 @@ class DishServiceImplTest {
     }
 
     @Test
-    void getAllDishes_Success() {
-        when(dishRepository.findAllWithCategories()).thenReturn(List.of(new Dish()));
-        when(modelMapper.map(any(), eq(DishDto.class))).thenReturn(new DishDto());
+    void getDishesByIds_MapsIngredientsAndCategory() {
+        when(menuSnapshotStore.current()).thenReturn(menu(row(1, "Tomato"), row(1, "Cheese"), row(2, null)));
+
+        List<DishDto> result = dishService.getDishesByIds(List.of(1, 2));
+        assertEquals(2, result.size());
+        assertEquals(Set.of("Tomato", "Cheese"), result.get(0).getIngredients());
+        assertEquals("Pizza", result.get(0).getCategoryName());
+        assertTrue(result.get(1).getIngredients().isEmpty());
+        verifyNoInteractions(dishRepository);
+    }
+
+    @Test
+    void getDishesByIds_Success() {
+        when(menuSnapshotStore.current()).thenReturn(menu(row(1, "Salt"), row(2, "Salt"), row(3, "Salt")));
+
+        List<DishDto> result = dishService.getDishesByIds(List.of(2, 1, 2, 9));
+        assertEquals(List.of(1, 2), result.stream().map(DishDto::getId).toList());
+    }
+
+    @Test
+    void getDishesByIds_EmptyIds_SkipsLookup() {
+        List<DishDto> result = dishService.getDishesByIds(List.of());
 
-        List<DishDto> result = dishService.getAllDishes();
-        assertEquals(1, result.size());
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(menuSnapshotStore);
     }
 
     @Test
     void getDishesSortedBy_Desc() {
-        when(dishRepository.findAll(any(Sort.class))).thenReturn(List.of(new Dish()));
-        when(modelMapper.map(any(), eq(DishDto.class))).thenReturn(new DishDto());
+        when(menuSnapshotStore.current()).thenReturn(menu(row(1, null), row(2, null)));
+
+        List<DishDto> result = dishService.getDishesSortedBy("id", "desc");
+        assertEquals(2, result.get(0).getId());
+    }
+
+    @Test
+    void getDishesSortedBy_UnknownField_ThrowsException() {
+        when(menuSnapshotStore.current()).thenReturn(menu(row(1, null)));
+
+        assertThrows(IllegalArgumentException.class, () -> dishService.getDishesSortedBy("secret", "asc"));
+    }
+
+    private MenuSnapshot menu(DishRow... rows) {
+        return new MenuSnapshot("test", 1, DishMapper.fromRows(List.of(rows)), List.of(), List.of());
+    }
 
-        List<DishDto> result = dishService.getDishesSortedBy("price", "desc");
-        assertFalse(result.isEmpty());
+    private DishRow row(int dishId, String ingredient) {
+        return new DishRow(dishId, "Dish " + dishId, null, new BigDecimal("10.00"), true, 3, "Pizza", ingredient);
     }
 }
\ No newline at end of file
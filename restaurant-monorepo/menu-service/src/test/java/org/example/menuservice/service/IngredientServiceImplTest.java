@@ -10,13 +10,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,7 +27,9 @@ class IngredientServiceImplTest {
     @Mock
     private DishRepository dishRepository;
     @Mock
-    private ModelMapper modelMapper;
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private MenuSnapshotStore menuSnapshotStore;
 
     @InjectMocks
     private IngredientServiceImpl ingredientService;
@@ -37,31 +39,20 @@ class IngredientServiceImplTest {
         IngredientDto inputDto = new IngredientDto();
         inputDto.setName("Pepper");
 
-        Ingredient mappedEntity = new Ingredient();
-        mappedEntity.setName("Pepper");
-
         Ingredient savedEntity = new Ingredient();
         savedEntity.setId(1);
         savedEntity.setName("Pepper");
 
-        IngredientDto outputDto = new IngredientDto();
-        outputDto.setId(1);
-        outputDto.setName("Pepper");
-
         when(ingredientRepository.findByName("Pepper")).thenReturn(Optional.empty());
 
-        when(modelMapper.map(any(IngredientDto.class), eq(Ingredient.class)))
-                .thenReturn(mappedEntity);
-
         when(ingredientRepository.save(any(Ingredient.class))).thenReturn(savedEntity);
 
-        when(modelMapper.map(any(Ingredient.class), eq(IngredientDto.class)))
-                .thenReturn(outputDto);
-
         IngredientDto result = ingredientService.createIngredient(inputDto);
 
         assertNotNull(result);
+        assertEquals(1, result.getId());
         assertEquals("Pepper", result.getName());
+        verify(eventPublisher).publishEvent(new MenuChangedEvent());
     }
 
     @Test
@@ -99,5 +90,19 @@ class IngredientServiceImplTest {
         ingredientService.deleteIngredient(id);
 
         verify(ingredientRepository).deleteById(id);
+        verify(eventPublisher).publishEvent(new MenuChangedEvent());
+    }
+
+    @Test
+    void getAllIngredients_ReadsSnapshot() {
+        IngredientDto salt = new IngredientDto();
+        salt.setId(1);
+        salt.setName("Salt");
+        when(menuSnapshotStore.current()).thenReturn(new MenuSnapshot("test", 1, List.of(), List.of(), List.of(salt)));
+
+        assertEquals(List.of(salt), ingredientService.getAllIngredients());
+        assertEquals(salt, ingredientService.getIngredientById(1));
+        assertThrows(EntityNotFoundException.class, () -> ingredientService.getIngredientById(2));
+        verifyNoInteractions(ingredientRepository);
     }
 }
\ No newline at end of file
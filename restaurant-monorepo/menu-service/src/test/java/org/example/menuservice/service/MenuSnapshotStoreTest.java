@@ -0,0 +1,174 @@
+package org.example.menuservice.service;
+
+import org.example.menuservice.dto.DishRow;
+import org.example.menuservice.entity.Category;
+import org.example.menuservice.entity.Ingredient;
+import org.example.menuservice.entity.MenuVersion;
+import org.example.menuservice.repository.CategoryRepository;
+import org.example.menuservice.repository.DishRepository;
+import org.example.menuservice.repository.IngredientRepository;
+import org.example.menuservice.repository.MenuVersionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MenuSnapshotStoreTest {
+
+    @Mock
+    private DishRepository dishRepository;
+    @Mock
+    private CategoryRepository categoryRepository;
+    @Mock
+    private IngredientRepository ingredientRepository;
+    @Mock
+    private MenuVersionRepository menuVersionRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private MenuSnapshotStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new MenuSnapshotStore(dishRepository, categoryRepository, ingredientRepository,
+                menuVersionRepository, transactionManager, Duration.ofMinutes(5));
+    }
+
+    @Test
+    void current_LoadsMenuOnceAndServesItFromMemory() {
+        stubMenu();
+
+        MenuSnapshot first = store.current();
+        MenuSnapshot second = store.current();
+
+        assertSame(first, second);
+        assertEquals(1, first.getVersion());
+        assertEquals("Margherita", first.getDish(1).getName());
+        assertEquals("Pizza", first.getCategory(3).getName());
+        assertEquals("Basil", first.getIngredient(5).getName());
+        verify(dishRepository, times(1)).findAllRows();
+    }
+
+    @Test
+    void onDishChanged_RebuildsWithNextVersion() {
+        stubMenu();
+        MenuSnapshot before = store.current();
+
+        store.onDishChanged(new DishChangedEvent(1));
+        store.onMenuChanged(new MenuChangedEvent());
+
+        MenuSnapshot after = store.current();
+        assertNotSame(before, after);
+        assertEquals(3, after.getVersion());
+        verify(dishRepository, times(3)).findAllRows();
+    }
+
+    @Test
+    void onMenuChanged_RebuildFails_NextReadLoadsAgain() {
+        stubMenu();
+        store.current();
+        when(dishRepository.findAllRows())
+                .thenThrow(new DataAccessResourceFailureException("Connection refused"))
+                .thenReturn(List.of(row()));
+
+        assertDoesNotThrow(() -> store.onMenuChanged(new MenuChangedEvent()));
+
+        assertEquals(2, store.current().getVersion());
+        verify(dishRepository, times(3)).findAllRows();
+    }
+
+    @Test
+    void checkForChanges_MenuWrittenOnAnotherInstance_Rebuilds() {
+        stubMenu();
+        when(menuVersionRepository.findCurrent())
+                .thenReturn(Optional.of(4L))
+                .thenReturn(Optional.of(5L));
+        MenuSnapshot before = store.current();
+
+        store.checkForChanges();
+
+        assertNotSame(before, store.current());
+        assertEquals(2, store.current().getVersion());
+    }
+
+    @Test
+    void checkForChanges_NothingChanged_KeepsSnapshot() {
+        stubMenu();
+        when(menuVersionRepository.findCurrent()).thenReturn(Optional.of(4L));
+        MenuSnapshot before = store.current();
+
+        store.checkForChanges();
+
+        assertSame(before, store.current());
+        verify(dishRepository, times(1)).findAllRows();
+    }
+
+    @Test
+    void checkForChanges_SnapshotOlderThanMaxAge_Rebuilds() {
+        store = new MenuSnapshotStore(dishRepository, categoryRepository, ingredientRepository,
+                menuVersionRepository, transactionManager, Duration.ZERO);
+        stubMenu();
+        MenuSnapshot before = store.current();
+
+        store.checkForChanges();
+
+        assertNotSame(before, store.current());
+    }
+
+    @Test
+    void checkForChanges_NoSnapshotYet_ReadsNothing() {
+        store.checkForChanges();
+
+        verifyNoInteractions(menuVersionRepository, dishRepository);
+    }
+
+    @Test
+    void onMenuWritten_IncrementsMenuVersion() {
+        when(menuVersionRepository.increment()).thenReturn(1);
+
+        store.onMenuWritten(new MenuChangedEvent());
+
+        verify(menuVersionRepository, never()).save(any());
+    }
+
+    @Test
+    void onDishWritten_FirstWrite_CreatesMenuVersion() {
+        when(menuVersionRepository.increment()).thenReturn(0);
+
+        store.onDishWritten(new DishChangedEvent(1));
+
+        verify(menuVersionRepository).save(argThat(version -> version.getId() == MenuVersion.ID && version.getVersion() == 1));
+    }
+
+    private void stubMenu() {
+        Category pizza = new Category();
+        pizza.setId(3);
+        pizza.setName("Pizza");
+        Ingredient basil = new Ingredient();
+        basil.setId(5);
+        basil.setName("Basil");
+
+        lenient().when(dishRepository.findAllRows()).thenReturn(List.of(row()));
+        when(categoryRepository.findAll(any(Sort.class))).thenReturn(List.of(pizza));
+        when(ingredientRepository.findAll(any(Sort.class))).thenReturn(List.of(basil));
+    }
+
+    private DishRow row() {
+        return new DishRow(1, "Margherita", null, new BigDecimal("32.00"), true, 3, "Pizza", "Basil");
+    }
+}
@@ -0,0 +1,75 @@
+package org.example.menuservice.service;
+
+import org.example.menuservice.dto.DishDto;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MenuSnapshotTest {
+
+    private final MenuSnapshot snapshot = new MenuSnapshot("test", 3, List.of(
+            dish(1, "Margherita", "32.00", true, 1),
+            dish(2, "Lemonade", null, true, 2),
+            dish(3, "Diavola", "38.00", false, 1),
+            dish(4, "Pizza bianca", "32.00", true, 1)), List.of(), List.of());
+
+    @Test
+    void filter_ByCategoryAndAvailability() {
+        assertEquals(List.of(1, 3, 4), ids(snapshot.filter(1, null)));
+        assertEquals(List.of(1, 4), ids(snapshot.filter(1, true)));
+        assertEquals(List.of(3), ids(snapshot.filter(null, false)));
+        assertEquals(4, snapshot.filter(null, null).size());
+        assertTrue(snapshot.filter(9, null).isEmpty());
+    }
+
+    @Test
+    void search_IgnoresCase() {
+        assertEquals(List.of(4), ids(snapshot.search("PIZZA")));
+        assertEquals(List.of(1), ids(snapshot.search("ItA")));
+        assertEquals(List.of(1, 2, 3, 4), ids(snapshot.search("a")));
+        assertTrue(snapshot.search("calzone").isEmpty());
+    }
+
+    @Test
+    void sorted_NullsLastAscendingAndTiesInMenuOrder() {
+        assertEquals(List.of(1, 4, 3, 2), ids(snapshot.sorted("price", false)));
+        assertEquals(List.of(2, 3, 1, 4), ids(snapshot.sorted("price", true)));
+        assertSame(snapshot.sorted("price", true), snapshot.sorted("price", true));
+        assertThrows(IllegalArgumentException.class, () -> snapshot.sorted("category.secret", false));
+    }
+
+    @Test
+    void getDishes_SkipsUnknownAndDuplicateIds() {
+        assertEquals(List.of(2, 3), ids(snapshot.getDishes(List.of(3, 2, 3, 42))));
+        assertNull(snapshot.getDish(42));
+        assertEquals(3, snapshot.getVersion());
+        assertEquals("\"test-3\"", snapshot.getETag());
+    }
+
+    @Test
+    void sharedCollections_AreReadOnly() {
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getDishes().clear());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getDish(1).getIngredients().add("Basil"));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.filter(1, null).clear());
+    }
+
+    private static List<Integer> ids(List<DishDto> dishes) {
+        return dishes.stream().map(DishDto::getId).toList();
+    }
+
+    private static DishDto dish(int id, String name, String price, boolean availability, int categoryId) {
+        DishDto dish = new DishDto();
+        dish.setId(id);
+        dish.setName(name);
+        dish.setPrice(price == null ? null : new BigDecimal(price));
+        dish.setAvailability(availability);
+        dish.setCategoryId(categoryId);
+        dish.setIngredients(new HashSet<>(Set.of("Water")));
+        return dish;
+    }
+}
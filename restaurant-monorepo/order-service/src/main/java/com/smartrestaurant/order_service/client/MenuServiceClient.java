@@ -13,6 +13,9 @@ public interface MenuServiceClient {
     @GetMapping("/api/dishes/{id}")
     DishResponseDto getDishById(@PathVariable("id") Long id);
 
+    @GetMapping("/api/dishes/batch")
+    List<DishResponseDto> getDishesByIds(@RequestParam("ids") List<Long> ids);
+
     @GetMapping("/api/dishes/search")
     List<DishResponseDto> searchDishesByName(@RequestParam("name") String name);
 }
@@ -0,0 +1,83 @@
+package com.smartrestaurant.order_service.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.smartrestaurant.order_service.entity.OutboxEvent;
+import com.smartrestaurant.order_service.service.OrderEventSubscriber;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Posts each batch of order events, as a JSON array, to the URLs listed in outbox.webhooks.
+ * Every element carries the outbox id (for deduplication), the event type, the order id,
+ * the time it was recorded and the event itself. Any error or non-2xx answer fails the
+ * batch, which is then retried by the relay.
+ *
+ * @version 1.0
+ */
+@Component
+public class OrderEventWebhooks implements OrderEventSubscriber {
+    private final List<String> urls;
+    private final RestClient restClient;
+    private final ObjectMapper objectMapper;
+
+    public OrderEventWebhooks(@Value("${outbox.webhooks:}") List<String> urls,
+                              @Value("${outbox.webhook-timeout:5s}") Duration timeout,
+                              RestClient.Builder restClientBuilder,
+                              ObjectMapper objectMapper) {
+        this(urls, restClientBuilder.requestFactory(requestFactory(timeout)).build(), objectMapper);
+    }
+
+    OrderEventWebhooks(List<String> urls, RestClient restClient, ObjectMapper objectMapper) {
+        this.urls = urls.stream().filter(url -> !url.isBlank()).toList();
+        this.restClient = restClient;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void deliver(List<OutboxEvent> events) {
+        if (urls.isEmpty()) {
+            return;
+        }
+        String body = toJson(events);
+        for (String url : urls) {
+            restClient.post()
+                    .uri(url)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(body)
+                    .retrieve()
+                    .toBodilessEntity();
+        }
+    }
+
+    private static SimpleClientHttpRequestFactory requestFactory(Duration timeout) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(timeout);
+        requestFactory.setReadTimeout(timeout);
+        return requestFactory;
+    }
+
+    private String toJson(List<OutboxEvent> events) {
+        ArrayNode messages = objectMapper.createArrayNode();
+        try {
+            for (OutboxEvent event : events) {
+                messages.addObject()
+                        .put("id", event.getId())
+                        .put("type", event.getEventType())
+                        .put("orderId", event.getOrderId())
+                        .put("createdAt", event.getCreatedAt() == null ? null : event.getCreatedAt().toString())
+                        .set("event", objectMapper.readTree(event.getPayload()));
+            }
+            return objectMapper.writeValueAsString(messages);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize order events", e);
+        }
+    }
+}
@@ -15,4 +15,7 @@ public interface UserServiceClient {
 
     @GetMapping("/api/users/search")
     List<UserResponseDto> searchUsersByName(@RequestParam("name") String name);
+
+    @GetMapping("/api/users/ids")
+    List<Long> getUserIdsAfter(@RequestParam("after") Long after, @RequestParam("limit") int limit);
 }
\ No newline at end of file
@@ -0,0 +1,65 @@
+package com.smartrestaurant.order_service.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.jdbc.datasource.init.ScriptException;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Moves the order id sequences past the ids already stored, so databases created while
+ * Order and OrderDetail still used identity columns keep working after the switch to
+ * pooled sequences. Runs once Hibernate has updated the schema and before the web server
+ * accepts requests. Only PostgreSQL needs it; other databases are left alone.
+ * The script runs in one transaction holding a PostgreSQL advisory lock, so instances
+ * starting at the same time align the sequences one after another.
+ *
+ * @version 1.0
+ */
+@Component
+public class OrderIdSequenceMigration {
+    private static final String SCRIPT = "db/order-id-sequences.sql";
+    // any fixed key works, as long as no other code takes the same advisory lock
+    private static final long LOCK_KEY = 7_300_114_001L;
+
+    private final DataSource dataSource;
+
+    // the EntityManagerFactory is only injected so this runs after the Hibernate schema update
+    public OrderIdSequenceMigration(DataSource dataSource, EntityManagerFactory entityManagerFactory) {
+        this.dataSource = dataSource;
+    }
+
+    @PostConstruct
+    public void alignSequences() throws MetaDataAccessException, SQLException {
+        String database = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        if (!"PostgreSQL".equals(database)) {
+            return;
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                try (Statement statement = connection.createStatement()) {
+                    // released by the commit or rollback below
+                    statement.execute("SELECT pg_advisory_xact_lock(" + LOCK_KEY + ")");
+                }
+                new ResourceDatabasePopulator(new ClassPathResource(SCRIPT)).populate(connection);
+                connection.commit();
+            } catch (SQLException | ScriptException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+    }
+}
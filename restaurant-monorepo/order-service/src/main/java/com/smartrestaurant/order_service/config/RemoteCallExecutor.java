@@ -0,0 +1,101 @@
+package com.smartrestaurant.order_service.config;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs blocking calls to other services concurrently on virtual threads.
+ * The number of calls in flight is capped for the whole service, and callers
+ * wait for the results against a shared per-request deadline.
+ * The caller's request attributes are carried over, so FeignClientInterceptor
+ * still forwards the Authorization header from the worker thread.
+ *
+ * @version 1.0
+ */
+@Component
+public class RemoteCallExecutor implements DisposableBean {
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore permits;
+    private final Duration timeout;
+
+    public RemoteCallExecutor(@Value("${remote-calls.max-concurrent:64}") int maxConcurrent,
+                              @Value("${remote-calls.timeout:2s}") Duration timeout) {
+        this.permits = new Semaphore(maxConcurrent);
+        this.timeout = timeout;
+    }
+
+    /**
+     * Starts a remote call in the background.
+     *
+     * @param call The call to run
+     * @return Future holding the result of the call
+     */
+    public <T> Future<T> submit(Callable<T> call) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return executor.submit(() -> {
+            permits.acquire();
+            RequestContextHolder.setRequestAttributes(attributes);
+            try {
+                return call.call();
+            } finally {
+                RequestContextHolder.resetRequestAttributes();
+                permits.release();
+            }
+        });
+    }
+
+    /**
+     * Computes the deadline for a request that starts now, as a System.nanoTime() value.
+     *
+     * @return The deadline for the calls of the current request
+     */
+    public long deadline() {
+        return System.nanoTime() + timeout.toNanos();
+    }
+
+    /**
+     * Waits for a remote call until the given deadline.
+     * Runtime exceptions thrown by the call are rethrown unchanged.
+     *
+     * @param future The pending call
+     * @param deadline The deadline returned by deadline()
+     * @return The result of the call
+     * @throws RemoteCallTimeoutException if the deadline passes first; the call is then cancelled
+     * @throws IllegalStateException if the wait is interrupted or the call throws a checked exception
+     */
+    public <T> T await(Future<T> future, long deadline) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new RemoteCallTimeoutException("Remote call did not finish within " + timeout, e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a remote call", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,13 @@
+package com.smartrestaurant.order_service.config;
+
+/**
+ * Thrown by {@link RemoteCallExecutor#await} when a remote call does not finish before
+ * the deadline of the request. Controllers answer it with 504 Gateway Timeout.
+ *
+ * @version 1.0
+ */
+public class RemoteCallTimeoutException extends RuntimeException {
+    public RemoteCallTimeoutException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
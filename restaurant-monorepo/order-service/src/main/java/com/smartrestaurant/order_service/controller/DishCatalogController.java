@@ -0,0 +1,51 @@
+package com.smartrestaurant.order_service.controller;
+
+import com.smartrestaurant.order_service.service.DishCatalog;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+// internal: called by menu-service on every order-service instance, outside the /api/orders gateway route;
+// requests must carry the shared internal-api.token, and the endpoints stay closed while none is configured
+@RestController
+@RequestMapping("internal/dish-catalog")
+public class DishCatalogController {
+    static final String TOKEN_HEADER = "X-Internal-Token";
+
+    private final DishCatalog dishCatalog;
+    private final byte[] token;
+
+    public DishCatalogController(DishCatalog dishCatalog, @Value("${internal-api.token:}") String token) {
+        this.dishCatalog = dishCatalog;
+        this.token = token.getBytes(StandardCharsets.UTF_8);
+    }
+
+    // called by menu-service whenever a dish changes
+    @DeleteMapping("/{dishId}")
+    public ResponseEntity<Void> evictDish(@PathVariable Long dishId,
+                                          @RequestHeader(value = TOKEN_HEADER, required = false) String token) {
+        if (!isInternal(token)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        dishCatalog.evict(dishId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping
+    public ResponseEntity<Void> evictAll(@RequestHeader(value = TOKEN_HEADER, required = false) String token) {
+        if (!isInternal(token)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        dishCatalog.evictAll();
+        return ResponseEntity.noContent().build();
+    }
+
+    private boolean isInternal(String token) {
+        return this.token.length > 0 && token != null
+                && MessageDigest.isEqual(this.token, token.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,31 +1,96 @@
 package com.smartrestaurant.order_service.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartrestaurant.order_service.config.RemoteCallTimeoutException;
 import com.smartrestaurant.order_service.dto.OrderDetailedResponseDto;
+import com.smartrestaurant.order_service.dto.OrderImportResultDto;
+import com.smartrestaurant.order_service.dto.OrderPageResponseDto;
 import com.smartrestaurant.order_service.dto.OrderRequestDto;
 import com.smartrestaurant.order_service.dto.OrderResponseDto;
+import com.smartrestaurant.order_service.dto.OrderStatsDto;
+import com.smartrestaurant.order_service.dto.OrderStatsEntryDto;
+import com.smartrestaurant.order_service.entity.OrderStatus;
+import com.smartrestaurant.order_service.service.DuplicateIdempotencyKeyException;
+import com.smartrestaurant.order_service.service.InvalidIdempotencyKeyException;
+import com.smartrestaurant.order_service.service.OrderEventBroadcaster;
+import com.smartrestaurant.order_service.service.OrderImportService;
 import com.smartrestaurant.order_service.service.OrderServiceImpl;
+import com.smartrestaurant.order_service.service.OrderStatsProjection;
+import com.smartrestaurant.order_service.service.OrderStatsView;
+import feign.RetryableException;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import jakarta.validation.Valid;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Set;
 
 @RestController
 @RequestMapping("api/orders")
 public class OrderController {
     private final OrderServiceImpl orderService;
+    private final OrderImportService orderImportService;
+    private final ObjectMapper objectMapper;
+    private final OrderEventBroadcaster orderEventBroadcaster;
+    private final OrderStatsView orderStatsView;
+    private final OrderStatsProjection orderStatsProjection;
 
-    public OrderController(OrderServiceImpl orderService) {
+    public OrderController(OrderServiceImpl orderService, OrderImportService orderImportService, ObjectMapper objectMapper,
+                           OrderEventBroadcaster orderEventBroadcaster, OrderStatsView orderStatsView,
+                           OrderStatsProjection orderStatsProjection) {
         this.orderService = orderService;
+        this.orderImportService = orderImportService;
+        this.objectMapper = objectMapper;
+        this.orderEventBroadcaster = orderEventBroadcaster;
+        this.orderStatsView = orderStatsView;
+        this.orderStatsProjection = orderStatsProjection;
     }
 
     @PostMapping
-    public ResponseEntity<OrderResponseDto> createOrder(@Valid  @RequestBody OrderRequestDto request) {
-        OrderResponseDto response = orderService.createOrder(request);
-        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    public ResponseEntity<OrderResponseDto> createOrder(@Valid  @RequestBody OrderRequestDto request,
+                                                        @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        try {
+            if (idempotencyKey == null) {
+                return new ResponseEntity<>(orderService.createOrder(request), HttpStatus.CREATED);
+            }
+            OrderResponseDto response = orderService.createOrder(request, idempotencyKey);
+            return new ResponseEntity<>(response, HttpStatus.CREATED);
+        } catch (CallNotPermittedException | BulkheadFullException | RetryableException e) {
+            // user-service or menu-service cannot be reached right now; the client may retry
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        } catch (InvalidIdempotencyKeyException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).build();
+        } catch (DuplicateIdempotencyKeyException e) {
+            // another request with the same key won the race; a retry gets its response
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    // accepts a JSON array or NDJSON; the body is parsed as it is read, so large imports are never buffered whole
+    @PostMapping(path = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<List<OrderImportResultDto>> importOrders(InputStream body) throws IOException {
+        return ResponseEntity.ok(orderImportService.importOrders(
+                objectMapper.readerFor(OrderRequestDto.class).readValues(body)));
     }
 
     @GetMapping("/{id}")
@@ -46,6 +111,76 @@ public class OrderController {
         }
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<OrderPageResponseDto> getOrdersPage(
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "100") int size) {
+        try {
+            return ResponseEntity.ok(orderService.getOrdersPage(after, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllOrders() {
+        StreamingResponseBody body = outputStream -> {
+            try {
+                orderService.streamAllOrders(order -> writeNdjsonLine(outputStream, order));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    // kitchen screens: CREATED / UPDATED / STATUS_CHANGED / DELETED events for the orders in the given statuses (all if none)
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamOrderEvents(@RequestParam(name = "status", required = false) List<String> statuses) {
+        Set<OrderStatus> filter = EnumSet.noneOf(OrderStatus.class);
+        try {
+            if (statuses != null) {
+                statuses.forEach(status -> filter.add(OrderStatus.parse(status)));
+            }
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(orderEventBroadcaster.subscribe(filter));
+    }
+
+    // pre-aggregated figures, a few seconds behind the orders; days and hours are UTC
+    @GetMapping("/stats")
+    public ResponseEntity<OrderStatsDto> getStats() {
+        return ResponseEntity.ok(orderStatsView.getStats());
+    }
+
+    @GetMapping("/stats/hourly")
+    public ResponseEntity<Map<String, OrderStatsEntryDto>> getHourlyStats(@RequestParam String date) {
+        try {
+            return ResponseEntity.ok(orderStatsView.getHourly(LocalDate.parse(date)));
+        } catch (DateTimeParseException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/stats/clients/{clientId}")
+    public ResponseEntity<OrderStatsEntryDto> getClientStats(@PathVariable Long clientId) {
+        return ResponseEntity.ok(orderStatsView.getClientStats(clientId));
+    }
+
+    @PostMapping("/stats/rebuild")
+    public ResponseEntity<OrderStatsDto> rebuildStats() {
+        try {
+            orderStatsProjection.rebuild();
+        } catch (ConcurrencyFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        orderStatsView.refresh();
+        return ResponseEntity.ok(orderStatsView.getStats());
+    }
+
     @PutMapping("/{id}/update")
     public ResponseEntity<OrderResponseDto> updateOrder(@PathVariable Long id, @RequestBody OrderRequestDto request) {
         try {
@@ -53,6 +188,8 @@ public class OrderController {
             return ResponseEntity.ok(response);
         } catch (NoSuchElementException e) {
             return ResponseEntity.notFound().build();
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         }
     }
 
@@ -65,6 +202,26 @@ public class OrderController {
             return ResponseEntity.notFound().build();
         } catch (IllegalStateException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    // 409 both when the order's current status does not allow the move and when another request changed it first
+    @PatchMapping("/{id}/status/{status}")
+    public ResponseEntity<OrderResponseDto> changeStatus(@PathVariable Long id, @PathVariable String status) {
+        OrderStatus target;
+        try {
+            target = OrderStatus.parse(status);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return ResponseEntity.ok(orderService.changeStatus(id, target));
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalStateException | OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         }
     }
 
@@ -75,13 +232,15 @@ public class OrderController {
             return ResponseEntity.ok(response);
         } catch (NoSuchElementException e) {
             return ResponseEntity.notFound().build();
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         }
     }
 
     @GetMapping("/status/{status}")
     public ResponseEntity<List<OrderResponseDto>> getAllOrdersByStatus(@PathVariable String status) {
         try {
-            List<OrderResponseDto> response = orderService.getOrdersByStatus(Enum.valueOf(com.smartrestaurant.order_service.entity.OrderStatus.class, status.toUpperCase()));
+            List<OrderResponseDto> response = orderService.getOrdersByStatus(OrderStatus.parse(status));
             return ResponseEntity.ok(response);
         } catch (NoSuchElementException e) {
             return ResponseEntity.notFound().build();
@@ -90,11 +249,17 @@ public class OrderController {
         }
     }
 
+    // limit=N returns the top N orders and takes precedence over page/size
     @GetMapping("/large_orders")
     public ResponseEntity<List<OrderResponseDto>> getLargeOrders(
-            @RequestParam(defaultValue = "100.00") BigDecimal minTotal) {
+            @RequestParam(defaultValue = "100.00") BigDecimal minTotal,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "100") int size,
+            @RequestParam(required = false) Integer limit) {
         try {
-            List<OrderResponseDto> orders = orderService.getLargeOrdersSortedByTotal(minTotal);
+            List<OrderResponseDto> orders = limit != null
+                    ? orderService.getLargeOrdersSortedByTotal(minTotal, 0, limit)
+                    : orderService.getLargeOrdersSortedByTotal(minTotal, page, size);
             return ResponseEntity.ok(orders);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
@@ -103,17 +268,44 @@ public class OrderController {
 
     @GetMapping("/{id}/details")
     public ResponseEntity<OrderDetailedResponseDto> getOrderDetails(@PathVariable Long id) {
-        return ResponseEntity.ok(orderService.getOrderDetails(id));
+        try {
+            return ResponseEntity.ok(orderService.getOrderDetails(id));
+        } catch (RemoteCallTimeoutException e) {
+            return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).build();
+        }
     }
 
     @GetMapping("/search/client")
-    public ResponseEntity<List<OrderResponseDto>> searchOrdersByClient(@RequestParam String name) {
-        return ResponseEntity.ok(orderService.getOrdersByClientName(name));
+    public ResponseEntity<List<OrderResponseDto>> searchOrdersByClient(
+            @RequestParam String name,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "100") int size) {
+        try {
+            return ResponseEntity.ok(orderService.getOrdersByClientName(name, page, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @GetMapping("/search/dish")
-    public ResponseEntity<List<OrderResponseDto>> searchOrdersByDish(@RequestParam String name) {
-        return ResponseEntity.ok(orderService.getOrdersByDishName(name));
+    public ResponseEntity<List<OrderResponseDto>> searchOrdersByDish(
+            @RequestParam String name,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "100") int size) {
+        try {
+            return ResponseEntity.ok(orderService.getOrdersByDishName(name, page, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    private void writeNdjsonLine(OutputStream outputStream, OrderResponseDto order) {
+        try {
+            outputStream.write(objectMapper.writeValueAsBytes(order));
+            outputStream.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
 }
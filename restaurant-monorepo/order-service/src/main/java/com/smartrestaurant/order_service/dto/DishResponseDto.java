@@ -7,4 +7,5 @@ public class DishResponseDto {
     private Integer id;
     private String name;
     private BigDecimal price;
+    private Boolean availability;
 }
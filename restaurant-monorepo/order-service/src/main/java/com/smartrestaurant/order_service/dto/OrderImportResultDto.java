@@ -0,0 +1,15 @@
+package com.smartrestaurant.order_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderImportResultDto {
+    private int index;
+    private Long orderId;
+    private String error;
+
+}
@@ -0,0 +1,22 @@
+package com.smartrestaurant.order_service.dto;
+
+import com.smartrestaurant.order_service.entity.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderStatsDto {
+    private long totalOrders;
+    // canceled orders excluded
+    private BigDecimal totalRevenue;
+    private Map<OrderStatus, OrderStatsEntryDto> byStatus;
+    // UTC days, canceled orders excluded
+    private Map<String, OrderStatsEntryDto> byDay;
+
+}
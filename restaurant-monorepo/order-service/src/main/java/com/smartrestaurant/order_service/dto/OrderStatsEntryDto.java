@@ -0,0 +1,16 @@
+package com.smartrestaurant.order_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderStatsEntryDto {
+    private long orderCount;
+    private BigDecimal revenue;
+
+}
@@ -4,7 +4,7 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.BatchSize;
 
 import java.math.BigDecimal;
 import java.time.ZonedDateTime;
@@ -12,13 +12,17 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "\"Order\"")
+@Table(name = "\"Order\"", indexes = {
+        @Index(name = "idx_order_client_id", columnList = "client_id"),
+        @Index(name = "idx_order_total_price", columnList = "total_price")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Order {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_id_seq")
+    @SequenceGenerator(name = "order_id_seq", sequenceName = "order_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "client_id", nullable = false)
@@ -27,7 +31,6 @@ public class Order {
     @Column(name = "employee_id")
     private Long employeeId;
 
-    @CreationTimestamp
     @Column(name = "placement_date", nullable = false, updatable = false)
     private ZonedDateTime placementDate;
 
@@ -42,7 +45,13 @@ public class Order {
     @Column(name = "delivery_address", nullable = false, length = 200)
     private String deliveryAddress;
 
+    // default for rows created before the column existed
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 100)
     private List<OrderDetail> orderDetails = new ArrayList<>();
 
 
@@ -54,5 +63,14 @@ public class Order {
         }
     }
 
+    // set on persist rather than on insert: with batched inserts the row is only written at flush,
+    // after the created order has already been mapped to its response
+    @PrePersist
+    void onPersist() {
+        if (placementDate == null) {
+            placementDate = ZonedDateTime.now();
+        }
+    }
+
 
 }
@@ -8,13 +8,16 @@ import lombok.NoArgsConstructor;
 import java.math.BigDecimal;
 
 @Entity
-@Table(name = "orderdetail")
+@Table(name = "orderdetail", indexes = {
+        @Index(name = "idx_orderdetail_dish_id", columnList = "dish_id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class OrderDetail {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orderdetail_id_seq")
+    @SequenceGenerator(name = "orderdetail_id_seq", sequenceName = "orderdetail_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,51 @@
+package com.smartrestaurant.order_service.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.math.BigDecimal;
+
+@Entity
+@Table(name = "order_stats")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderStatsBucket implements Persistable<OrderStatsKey> {
+    @EmbeddedId
+    private OrderStatsKey key;
+
+    @Column(name = "order_count", nullable = false)
+    private long orderCount;
+
+    @Column(name = "revenue", nullable = false)
+    private BigDecimal revenue;
+
+    // buckets are only created for keys that are known to be missing, so saving must insert instead of merging
+    @Transient
+    private boolean newRecord = true;
+
+    public OrderStatsBucket(OrderStatsKey key, long orderCount, BigDecimal revenue) {
+        this.key = key;
+        this.orderCount = orderCount;
+        this.revenue = revenue;
+    }
+
+    @Override
+    public OrderStatsKey getId() {
+        return key;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newRecord;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        newRecord = false;
+    }
+}
@@ -0,0 +1,26 @@
+package com.smartrestaurant.order_service.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderStatsKey implements Serializable {
+    public static final String STATUS = "status";
+    public static final String HOUR = "hour";
+    public static final String CLIENT = "client";
+
+    // one of STATUS, HOUR (UTC, "yyyy-MM-ddTHH") or CLIENT
+    @Column(name = "dimension", length = 10)
+    private String dimension;
+
+    @Column(name = "bucket", length = 30)
+    private String bucket;
+}
@@ -1,5 +1,12 @@
 package com.smartrestaurant.order_service.entity;
 
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
 public enum OrderStatus {
     PLACED("placed"),
     IN_PROGRESS("in_progress"),
@@ -7,6 +14,30 @@ public enum OrderStatus {
     CANCELED("canceled"),
     READY_FOR_PREPARATION("ready_for_preparation");
 
+    // the order lifecycle: PLACED -> READY_FOR_PREPARATION -> IN_PROGRESS -> DELIVERED,
+    // cancellable until delivered; DELIVERED and CANCELED are final
+    private static final Map<OrderStatus, Set<OrderStatus>> TRANSITIONS = new EnumMap<>(OrderStatus.class);
+
+    static {
+        TRANSITIONS.put(PLACED, EnumSet.of(READY_FOR_PREPARATION, CANCELED));
+        TRANSITIONS.put(READY_FOR_PREPARATION, EnumSet.of(IN_PROGRESS, CANCELED));
+        TRANSITIONS.put(IN_PROGRESS, EnumSet.of(DELIVERED, CANCELED));
+        TRANSITIONS.put(DELIVERED, EnumSet.noneOf(OrderStatus.class));
+        TRANSITIONS.put(CANCELED, EnumSet.noneOf(OrderStatus.class));
+    }
+
+    // database value -> status; built once, so hydrating a row is one hash lookup instead of
+    // a scan over a fresh values() array with a string compare per constant
+    private static final Map<String, OrderStatus> BY_VALUE;
+
+    static {
+        Map<String, OrderStatus> byValue = new HashMap<>();
+        for (OrderStatus status : values()) {
+            byValue.put(status.value, status);
+        }
+        BY_VALUE = Map.copyOf(byValue);
+    }
+
     private final String value;
 
     OrderStatus(String value) {
@@ -16,4 +47,31 @@ public enum OrderStatus {
     public String getValue() {
         return value;
     }
+
+    /**
+     * Returns the status stored in the database as the given value.
+     *
+     * @throws IllegalArgumentException if no status has this value
+     */
+    public static OrderStatus fromValue(String value) {
+        OrderStatus status = BY_VALUE.get(value);
+        if (status == null) {
+            throw new IllegalArgumentException("Unknown order status: " + value);
+        }
+        return status;
+    }
+
+    /**
+     * Parses a status given by a client, in any case ("placed", "PLACED", "Ready_For_Preparation").
+     *
+     * @throws IllegalArgumentException if no status has this name
+     */
+    public static OrderStatus parse(String name) {
+        OrderStatus status = BY_VALUE.get(name);
+        return status != null ? status : fromValue(name.toLowerCase(Locale.ROOT));
+    }
+
+    public boolean canTransitionTo(OrderStatus next) {
+        return TRANSITIONS.get(this).contains(next);
+    }
 }
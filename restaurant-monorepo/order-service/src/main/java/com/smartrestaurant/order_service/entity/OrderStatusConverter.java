@@ -19,13 +19,6 @@ public class OrderStatusConverter implements AttributeConverter<OrderStatus, Str
         if (dbData == null) {
             return null;
         }
-
-        for (OrderStatus status : OrderStatus.values()) {
-            if (status.getValue().equals(dbData)) {
-                return status;
-            }
-        }
-
-        throw new IllegalArgumentException("Unknown database value: " + dbData);
+        return OrderStatus.fromValue(dbData);
     }
 }
\ No newline at end of file
@@ -1,21 +1,26 @@
 package com.smartrestaurant.order_service.mapper;
 
+import com.smartrestaurant.order_service.dto.DishResponseDto;
+import com.smartrestaurant.order_service.dto.OrderDetailRequestDto;
 import com.smartrestaurant.order_service.dto.OrderDetailResponseDto;
 import com.smartrestaurant.order_service.dto.OrderRequestDto;
 import com.smartrestaurant.order_service.dto.OrderResponseDto;
 import com.smartrestaurant.order_service.entity.Order;
 import com.smartrestaurant.order_service.entity.OrderDetail;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class OrderMapper {
     public static OrderResponseDto toResponseDto(Order order){
         if(order == null) return null;
 
-        List<OrderDetailResponseDto> detailResponses = order.getOrderDetails().stream()
-                .map(OrderMapper::toDetailResponseDto)
-                .collect(Collectors.toList());
+        List<OrderDetail> details = order.getOrderDetails();
+        List<OrderDetailResponseDto> detailResponses = new ArrayList<>(details.size());
+        for (OrderDetail detail : details) {
+            detailResponses.add(toDetailResponseDto(detail));
+        }
 
         return new OrderResponseDto(
                 order.getId(),
@@ -47,4 +52,15 @@ public class OrderMapper {
 
         return order;
     }
+
+    // prices the line with the dish's current price, so the order keeps it even if the menu changes later
+    public static OrderDetail toDetailEntity(OrderDetailRequestDto item, DishResponseDto dish, Order order){
+        OrderDetail detail = new OrderDetail();
+        detail.setDishId(Long.valueOf(dish.getId()));
+        detail.setQuantity(item.getQuantity());
+        detail.setOrder(order);
+        detail.setPriceAtOrder(dish.getPrice().multiply(BigDecimal.valueOf(item.getQuantity())));
+
+        return detail;
+    }
 }
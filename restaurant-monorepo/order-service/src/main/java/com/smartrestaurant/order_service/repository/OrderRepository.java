@@ -2,15 +2,58 @@ package com.smartrestaurant.order_service.repository;
 
 import com.smartrestaurant.order_service.entity.Order;
 import com.smartrestaurant.order_service.entity.OrderStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
+    @Query("SELECT o FROM Order o LEFT JOIN FETCH o.orderDetails")
+    List<Order> findAllWithDetails();
+
+    @Query("SELECT o.id FROM Order o WHERE o.id > :afterId ORDER BY o.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    @Query("SELECT o FROM Order o LEFT JOIN FETCH o.orderDetails WHERE o.id IN :ids ORDER BY o.id")
+    List<Order> findAllWithDetailsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @EntityGraph(attributePaths = "orderDetails")
     List<Order> findByStatus(OrderStatus status);
-    List<Order> findByTotalPriceGreaterThan(BigDecimal price);
+
+    List<Order> findByTotalPriceGreaterThan(BigDecimal price, Pageable pageable);
+
+    List<Order> findByClientIdIn(Collection<Long> clientIds, Pageable pageable);
+
+    // compare-and-set on the version: no row is updated if the order changed since it was read
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Order o SET o.status = :status, o.version = o.version + 1 " +
+            "WHERE o.id = :id AND o.version = :version")
+    int updateStatus(@Param("id") Long id, @Param("version") Long version, @Param("status") OrderStatus status);
+
+    @Query("SELECT o.clientId AS clientId, o.status AS status, o.totalPrice AS totalPrice, " +
+            "o.placementDate AS placementDate FROM Order o")
+    Stream<OrderStatsSource> streamStatsSources();
+
+    interface OrderStatsSource {
+        Long getClientId();
+        OrderStatus getStatus();
+        BigDecimal getTotalPrice();
+        ZonedDateTime getPlacementDate();
+    }
+
+    @Query("SELECT o FROM Order o WHERE o.id IN " +
+            "(SELECT d.order.id FROM OrderDetail d WHERE d.dishId IN :dishIds)")
+    List<Order> findContainingAnyDish(@Param("dishIds") Collection<Long> dishIds, Pageable pageable);
 
 }
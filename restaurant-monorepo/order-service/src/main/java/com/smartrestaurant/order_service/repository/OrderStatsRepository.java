@@ -0,0 +1,22 @@
+package com.smartrestaurant.order_service.repository;
+
+import com.smartrestaurant.order_service.entity.OrderStatsBucket;
+import com.smartrestaurant.order_service.entity.OrderStatsKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Repository
+public interface OrderStatsRepository extends JpaRepository<OrderStatsBucket, OrderStatsKey> {
+    @Modifying
+    @Query("UPDATE OrderStatsBucket b SET b.orderCount = b.orderCount + :count, b.revenue = b.revenue + :revenue " +
+            "WHERE b.key = :key")
+    int increment(@Param("key") OrderStatsKey key, @Param("count") long count, @Param("revenue") BigDecimal revenue);
+
+    List<OrderStatsBucket> findByKeyDimensionIn(List<String> dimensions);
+}
@@ -0,0 +1,141 @@
+package com.smartrestaurant.order_service.service;
+
+import com.smartrestaurant.order_service.client.UserServiceClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Local, eventually consistent set of the user IDs known to User Service, so that
+ * placing an order does not need a remote call just to check that the client exists.
+ * User IDs are sequential, so they are kept in a BitSet (one bit per ID).
+ * New users are pulled incrementally after the highest known ID; a periodic full
+ * rebuild drops users that were deleted in the meantime.
+ * An ID missing from the registry is not proof that the user does not exist:
+ * callers fall back to User Service and register the ID once it is confirmed.
+ *
+ * @version 1.0
+ */
+@Component
+public class ClientRegistry {
+    private static final Logger logger = LoggerFactory.getLogger(ClientRegistry.class);
+
+    private final UserServiceClient userServiceClient;
+    private final int batchSize;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private BitSet knownIds = new BitSet();
+    private long highestKnownId;
+
+    public ClientRegistry(UserServiceClient userServiceClient,
+                          @Value("${client-registry.batch-size:1000}") int batchSize) {
+        this.userServiceClient = userServiceClient;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Checks whether the user ID is known locally.
+     *
+     * @param clientId The ID of the client
+     * @return true if the ID is known to exist, false if it has to be checked remotely
+     */
+    public boolean contains(Long clientId) {
+        if (clientId == null || clientId < 0 || clientId > Integer.MAX_VALUE) {
+            return false;
+        }
+        lock.readLock().lock();
+        try {
+            return knownIds.get(clientId.intValue());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Records a user ID that was confirmed by User Service.
+     *
+     * @param clientId The ID of the client
+     */
+    public void register(Long clientId) {
+        if (clientId == null || clientId < 0 || clientId > Integer.MAX_VALUE) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            knownIds.set(clientId.intValue());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Pulls the users created since the last refresh from User Service.
+     */
+    @Scheduled(fixedDelayString = "${client-registry.refresh-interval:30s}")
+    public void refreshNewClients() {
+        try {
+            BitSet newIds = new BitSet();
+            long lastId = fetchIdsAfter(currentHighestId(), newIds);
+            lock.writeLock().lock();
+            try {
+                knownIds.or(newIds);
+                highestKnownId = Math.max(highestKnownId, lastId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } catch (Exception e) {
+            logger.warn("Could not refresh client registry: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Rebuilds the registry from scratch so that deleted users are dropped.
+     */
+    @Scheduled(fixedDelayString = "${client-registry.rebuild-interval:1h}",
+            initialDelayString = "${client-registry.rebuild-interval:1h}")
+    public void rebuild() {
+        try {
+            BitSet allIds = new BitSet();
+            long lastId = fetchIdsAfter(0L, allIds);
+            lock.writeLock().lock();
+            try {
+                knownIds = allIds;
+                highestKnownId = lastId;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } catch (Exception e) {
+            logger.warn("Could not rebuild client registry: {}", e.getMessage());
+        }
+    }
+
+    private long fetchIdsAfter(long afterId, BitSet target) {
+        long lastId = afterId;
+        List<Long> page;
+        do {
+            page = userServiceClient.getUserIdsAfter(lastId, batchSize);
+            for (Long id : page) {
+                if (id <= Integer.MAX_VALUE) {
+                    target.set(id.intValue());
+                }
+                lastId = Math.max(lastId, id);
+            }
+        } while (page.size() == batchSize);
+        return lastId;
+    }
+
+    private long currentHighestId() {
+        lock.readLock().lock();
+        try {
+            return highestKnownId;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.smartrestaurant.order_service.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.smartrestaurant.order_service.client.MenuServiceClient;
+import com.smartrestaurant.order_service.dto.DishResponseDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Local, size-bounded cache of menu dishes sitting in front of Menu Service.
+ * Entries expire after a fixed TTL and are evicted explicitly when Menu Service
+ * reports a dish change, so most orders are priced without any remote call.
+ * A last-known copy of each dish is kept for longer (stale-ttl), and is served when
+ * Menu Service cannot be reached, e.g. while its circuit breaker is open.
+ * A load that overlaps an eviction of the same dish is returned to its caller but not
+ * kept, so a price read before the change cannot outlive the eviction.
+ * Hit, miss and eviction counts are published as "cache.*" metrics under the name "dishCatalog".
+ *
+ * @version 1.0
+ */
+@Component
+public class DishCatalog {
+    static final String CACHE_NAME = "dishCatalog";
+
+    private final MenuServiceClient menuServiceClient;
+    private final Cache<Long, DishResponseDto> dishes;
+    private final Cache<Long, DishResponseDto> lastKnownDishes;
+    // eviction counts, one per changed dish; only grows with the number of dishes ever changed
+    private final Map<Long, Long> dishEvictions = new ConcurrentHashMap<>();
+    private final AtomicLong fullEvictions = new AtomicLong();
+
+    public DishCatalog(MenuServiceClient menuServiceClient,
+                       MeterRegistry meterRegistry,
+                       @Value("${dish-catalog.cache.max-size:5000}") long maxSize,
+                       @Value("${dish-catalog.cache.ttl:10m}") Duration ttl,
+                       @Value("${dish-catalog.cache.stale-ttl:24h}") Duration staleTtl) {
+        this.menuServiceClient = menuServiceClient;
+        this.dishes = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.lastKnownDishes = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(staleTtl)
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, dishes, CACHE_NAME);
+    }
+
+    /**
+     * Resolves a single dish, loading it from Menu Service on a cache miss.
+     *
+     * @param dishId The ID of the dish
+     * @return DishResponseDto The dish name, price and availability
+     * @throws NoSuchElementException if Menu Service does not know the dish
+     */
+    public DishResponseDto getDish(Long dishId) {
+        DishResponseDto dish = getDishes(List.of(dishId)).get(dishId);
+        if (dish == null) {
+            throw new NoSuchElementException("Dish with ID " + dishId + " does not exist!");
+        }
+        return dish;
+    }
+
+    /**
+     * Resolves several dishes at once. Cached entries are served locally and all
+     * missing ones are fetched together with a single batch call to Menu Service.
+     * Dishes unknown to Menu Service are simply absent from the result.
+     * If Menu Service fails, the last known copies are returned instead, provided
+     * every requested dish has one; otherwise the failure is rethrown.
+     *
+     * @param dishIds The IDs of the dishes to resolve
+     * @return Map of dish ID to dish data
+     */
+    public Map<Long, DishResponseDto> getDishes(Collection<Long> dishIds) {
+        if (dishIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, DishResponseDto> found = new HashMap<>(dishes.getAllPresent(dishIds));
+        Set<Long> missingIds = new HashSet<>(dishIds);
+        missingIds.removeAll(found.keySet());
+        if (missingIds.isEmpty()) {
+            return found;
+        }
+        try {
+            found.putAll(loadDishes(missingIds));
+            return found;
+        } catch (RuntimeException e) {
+            Map<Long, DishResponseDto> lastKnown = lastKnownDishes.getAllPresent(dishIds);
+            if (lastKnown.size() < Set.copyOf(dishIds).size()) {
+                throw e;
+            }
+            return lastKnown;
+        }
+    }
+
+    /**
+     * Drops a dish from the cache so the next lookup reads fresh data from Menu Service.
+     *
+     * @param dishId The ID of the changed dish
+     */
+    public void evict(Long dishId) {
+        dishEvictions.merge(dishId, 1L, Long::sum);
+        dishes.invalidate(dishId);
+        lastKnownDishes.invalidate(dishId);
+    }
+
+    /**
+     * Drops every cached dish.
+     */
+    public void evictAll() {
+        fullEvictions.incrementAndGet();
+        dishes.invalidateAll();
+        lastKnownDishes.invalidateAll();
+    }
+
+    private Map<Long, DishResponseDto> loadDishes(Set<Long> missingIds) {
+        Map<Long, Long> generations = missingIds.stream()
+                .collect(Collectors.toMap(Function.identity(), this::generation));
+        Map<Long, DishResponseDto> loaded = menuServiceClient.getDishesByIds(List.copyOf(missingIds)).stream()
+                .collect(Collectors.toMap(dish -> Long.valueOf(dish.getId()), Function.identity(), (first, second) -> first));
+        loaded.forEach((dishId, dish) -> {
+            Long before = generations.get(dishId);
+            if (before == null || before != generation(dishId)) {
+                return;
+            }
+            dishes.put(dishId, dish);
+            lastKnownDishes.put(dishId, dish);
+            // evict() counts before it invalidates, so an eviction racing the puts above is seen here
+            if (before != generation(dishId)) {
+                dishes.invalidate(dishId);
+                lastKnownDishes.invalidate(dishId);
+            }
+        });
+        return loaded;
+    }
+
+    private long generation(Long dishId) {
+        return fullEvictions.get() + dishEvictions.getOrDefault(dishId, 0L);
+    }
+}
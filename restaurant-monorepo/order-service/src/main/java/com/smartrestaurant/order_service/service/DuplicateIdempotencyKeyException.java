@@ -0,0 +1,13 @@
+package com.smartrestaurant.order_service.service;
+
+/**
+ * Thrown by {@link IdempotencyStore#remember} when a concurrent request stored the same
+ * Idempotency-Key first. Controllers answer it with 409 Conflict; a retry gets the original response.
+ *
+ * @version 1.0
+ */
+public class DuplicateIdempotencyKeyException extends RuntimeException {
+    public DuplicateIdempotencyKeyException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
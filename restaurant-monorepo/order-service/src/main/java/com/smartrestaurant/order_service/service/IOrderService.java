@@ -1,31 +1,37 @@
 package com.smartrestaurant.order_service.service;
 
 import com.smartrestaurant.order_service.dto.OrderDetailedResponseDto;
+import com.smartrestaurant.order_service.dto.OrderPageResponseDto;
 import com.smartrestaurant.order_service.dto.OrderRequestDto;
 import com.smartrestaurant.order_service.dto.OrderResponseDto;
 import com.smartrestaurant.order_service.entity.OrderStatus;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface IOrderService {
 
  OrderResponseDto createOrder(OrderRequestDto request); // CREATE
+    OrderResponseDto createOrder(OrderRequestDto request, String idempotencyKey); // CREATE, at most once per key
  OrderResponseDto getOrderById(Long orderId); // READ
     List<OrderResponseDto> getAllOrders(); // READ ALL
+    OrderPageResponseDto getOrdersPage(Long afterId, int size); // READ ALL, keyset paged
+    void streamAllOrders(Consumer<OrderResponseDto> consumer); // READ ALL, streamed
     OrderResponseDto updateOrder(Long orderId, OrderRequestDto updateRequest); //UPDATE
     OrderResponseDto deleteOrder(Long id); //DELETE
 
 
     //Extra endpoints
     OrderResponseDto updateStatusReadyForPreparation(Long id);
+    OrderResponseDto changeStatus(Long id, OrderStatus status);
     List<OrderResponseDto> getOrdersByStatus(OrderStatus status);
-    List<OrderResponseDto> getLargeOrdersSortedByTotal(BigDecimal minTotal);
+    List<OrderResponseDto> getLargeOrdersSortedByTotal(BigDecimal minTotal, int page, int size);
 
     //Extra endpoints for services intercommunication
     OrderDetailedResponseDto getOrderDetails(Long id);
-    List<OrderResponseDto> getOrdersByClientName(String name);
-    List<OrderResponseDto> getOrdersByDishName(String dishName);
+    List<OrderResponseDto> getOrdersByClientName(String name, int page, int size);
+    List<OrderResponseDto> getOrdersByDishName(String dishName, int page, int size);
 
 
 
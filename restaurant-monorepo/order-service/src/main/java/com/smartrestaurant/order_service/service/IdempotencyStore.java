@@ -0,0 +1,175 @@
+package com.smartrestaurant.order_service.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.smartrestaurant.order_service.dto.OrderRequestDto;
+import com.smartrestaurant.order_service.dto.OrderResponseDto;
+import com.smartrestaurant.order_service.entity.IdempotencyRecord;
+import com.smartrestaurant.order_service.repository.IdempotencyRecordRepository;
+import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * Remembers which order was created for each Idempotency-Key, so that a client retrying
+ * POST /api/orders gets the original response back instead of a duplicate order.
+ * Keys are stored in the idempotency_key table, in the same transaction as the order,
+ * and recent ones are also kept in memory so most replays need neither the database nor
+ * the other services. Each key is bound to a hash of the request it came with; reusing
+ * a key for a different request is rejected. Keys are forgotten after the configured TTL,
+ * also when the scheduled purge has not removed them yet.
+ *
+ * @version 1.0
+ */
+@Component
+public class IdempotencyStore {
+    static final int MAX_KEY_LENGTH = 100;
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyStore.class);
+
+    private final IdempotencyRecordRepository repository;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Cache<String, StoredResponse> recent;
+
+    public IdempotencyStore(IdempotencyRecordRepository repository,
+                            ObjectMapper objectMapper,
+                            @Value("${idempotency.cache.max-size:10000}") long maxSize,
+                            @Value("${idempotency.ttl:24h}") Duration ttl) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+        this.recent = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * Looks up the response of the order already created with this key.
+     *
+     * @param key The Idempotency-Key sent by the client
+     * @param request The order request that came with the key
+     * @return The original response, or empty if the key has not been used yet or has expired
+     * @throws InvalidIdempotencyKeyException if the key is blank or too long
+     * @throws IllegalArgumentException if the key was used for a different request
+     */
+    public Optional<OrderResponseDto> findOriginal(String key, OrderRequestDto request) {
+        checkKey(key);
+        StoredResponse stored = recent.getIfPresent(key);
+        if (stored == null) {
+            stored = repository.findById(key)
+                    .map(record -> new StoredResponse(record.getRequestHash(), fromJson(record.getResponse()), record.getCreatedAt()))
+                    .orElse(null);
+            if (stored == null) {
+                return Optional.empty();
+            }
+            recent.put(key, stored);
+        }
+        ZonedDateTime cutoff = ZonedDateTime.now().minus(ttl);
+        if (stored.createdAt().isBefore(cutoff)) {
+            // expired but not purged yet; the record goes now, so the key can be stored again for the new order
+            recent.invalidate(key);
+            repository.deleteByKeyCreatedBefore(key, cutoff);
+            return Optional.empty();
+        }
+        if (!stored.requestHash().equals(hash(request))) {
+            throw new IllegalArgumentException("Idempotency-Key " + key + " was already used for a different order");
+        }
+        return Optional.of(stored.response());
+    }
+
+    /**
+     * Records the response of an order created with this key. Must run in the transaction
+     * that creates the order: a concurrent request with the same key makes the insert fail,
+     * and the duplicate order is rolled back with it.
+     *
+     * @param key The Idempotency-Key sent by the client
+     * @param request The order request that came with the key
+     * @param response The response returned for the created order
+     * @throws InvalidIdempotencyKeyException if the key is blank or too long
+     * @throws DuplicateIdempotencyKeyException if the key was stored concurrently
+     */
+    public void remember(String key, OrderRequestDto request, OrderResponseDto response) {
+        checkKey(key);
+        StoredResponse stored = new StoredResponse(hash(request), response, ZonedDateTime.now());
+        // writes the order first, so that a violation raised below can only come from the key
+        repository.flush();
+        try {
+            repository.saveAndFlush(new IdempotencyRecord(key, stored.requestHash(), response.getId(), toJson(response)));
+        } catch (DataIntegrityViolationException e) {
+            throw new DuplicateIdempotencyKeyException("Idempotency-Key " + key + " was stored by a concurrent request", e);
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    recent.put(key, stored);
+                }
+            });
+        } else {
+            recent.put(key, stored);
+        }
+    }
+
+    /**
+     * Deletes the keys older than the TTL.
+     */
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval:1h}")
+    @Transactional
+    public void purgeExpired() {
+        int deleted = repository.deleteCreatedBefore(ZonedDateTime.now().minus(ttl));
+        if (deleted > 0) {
+            logger.info("Purged {} expired idempotency keys", deleted);
+        }
+    }
+
+    private void checkKey(String key) {
+        if (key == null || key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new InvalidIdempotencyKeyException("Idempotency-Key must have between 1 and " + MAX_KEY_LENGTH + " characters");
+        }
+    }
+
+    private String hash(OrderRequestDto request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Could not hash order request", e);
+        }
+    }
+
+    private String toJson(OrderResponseDto response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize order response", e);
+        }
+    }
+
+    private OrderResponseDto fromJson(String json) {
+        try {
+            return objectMapper.readValue(json, OrderResponseDto.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not read stored order response", e);
+        }
+    }
+
+    private record StoredResponse(String requestHash, OrderResponseDto response, ZonedDateTime createdAt) {
+    }
+}
@@ -0,0 +1,13 @@
+package com.smartrestaurant.order_service.service;
+
+/**
+ * Thrown by {@link IdempotencyStore} for an Idempotency-Key that is blank or too long.
+ * Controllers answer it with 400 Bad Request.
+ *
+ * @version 1.0
+ */
+public class InvalidIdempotencyKeyException extends IllegalArgumentException {
+    public InvalidIdempotencyKeyException(String message) {
+        super(message);
+    }
+}
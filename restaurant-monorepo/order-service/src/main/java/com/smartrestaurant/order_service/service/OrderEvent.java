@@ -0,0 +1,50 @@
+package com.smartrestaurant.order_service.service;
+
+import com.smartrestaurant.order_service.dto.OrderResponseDto;
+import com.smartrestaurant.order_service.entity.OrderStatus;
+
+import java.math.BigDecimal;
+import java.util.Set;
+
+/**
+ * Published by {@link OrderServiceImpl} and {@link OrderImportService} whenever an order is
+ * created, edited, moves to another status or is deleted. Listeners should react after commit.
+ *
+ * @param type what happened to the order.
+ * @param order the order as it is after the change (as it was before, for a deletion).
+ * @param previousStatus the status before a status change, null for the other types.
+ * @param previousTotalPrice the total before an edit, null for the other types.
+ */
+public record OrderEvent(Type type, OrderResponseDto order, OrderStatus previousStatus, BigDecimal previousTotalPrice) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        STATUS_CHANGED,
+        DELETED
+    }
+
+    public static OrderEvent created(OrderResponseDto order) {
+        return new OrderEvent(Type.CREATED, order, null, null);
+    }
+
+    public static OrderEvent updated(OrderResponseDto order, BigDecimal previousTotalPrice) {
+        return new OrderEvent(Type.UPDATED, order, null, previousTotalPrice);
+    }
+
+    public static OrderEvent statusChanged(OrderResponseDto order, OrderStatus previousStatus) {
+        return new OrderEvent(Type.STATUS_CHANGED, order, previousStatus, null);
+    }
+
+    public static OrderEvent deleted(OrderResponseDto order) {
+        return new OrderEvent(Type.DELETED, order, null, null);
+    }
+
+    /**
+     * Whether the event concerns a screen showing orders in the given statuses:
+     * the order is in one of them now, or just left one of them.
+     */
+    public boolean concerns(Set<OrderStatus> statuses) {
+        return statuses.contains(order.getStatus()) || (previousStatus != null && statuses.contains(previousStatus));
+    }
+}
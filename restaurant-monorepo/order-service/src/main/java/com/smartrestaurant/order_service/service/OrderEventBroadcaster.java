@@ -0,0 +1,152 @@
+package com.smartrestaurant.order_service.service;
+
+import com.smartrestaurant.order_service.entity.OrderStatus;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pushes committed order events to connected kitchen screens as server-sent events,
+ * so they no longer poll the order list.
+ * Each screen subscribes to the statuses it shows (or to all of them) and gets its own
+ * bounded queue, drained by a virtual thread: a slow screen never delays the others or
+ * the transaction that produced the event. A screen that falls too far behind is
+ * disconnected and reloads its orders when it reconnects. Idle connections get a
+ * heartbeat comment so proxies keep them open and dead clients are noticed.
+ *
+ * @version 1.0
+ */
+@Component
+public class OrderEventBroadcaster implements DisposableBean {
+    private static final Logger logger = LoggerFactory.getLogger(OrderEventBroadcaster.class);
+
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final Duration timeout;
+    private final Duration heartbeatInterval;
+    private final int queueCapacity;
+
+    public OrderEventBroadcaster(MeterRegistry meterRegistry,
+                                 @Value("${order-events.timeout:30m}") Duration timeout,
+                                 @Value("${order-events.heartbeat-interval:15s}") Duration heartbeatInterval,
+                                 @Value("${order-events.queue-capacity:256}") int queueCapacity) {
+        this.timeout = timeout;
+        this.heartbeatInterval = heartbeatInterval;
+        this.queueCapacity = queueCapacity;
+        Gauge.builder("order.events.subscribers", subscriptions, Set::size)
+                .description("Connected order event streams")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens an event stream.
+     *
+     * @param statuses The statuses the screen shows; empty for all orders
+     * @return The emitter to return from the controller
+     */
+    public SseEmitter subscribe(Set<OrderStatus> statuses) {
+        return subscribe(statuses, new SseEmitter(timeout.toMillis()));
+    }
+
+    SseEmitter subscribe(Set<OrderStatus> statuses, SseEmitter emitter) {
+        Subscription subscription = new Subscription(Set.copyOf(statuses), emitter);
+        subscriptions.add(subscription);
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> subscription.close());
+        subscription.start();
+        return emitter;
+    }
+
+    /**
+     * Queues a committed order event for every screen it concerns.
+     *
+     * @param event The order event
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrderEvent(OrderEvent event) {
+        for (Subscription subscription : subscriptions) {
+            if (subscription.statuses.isEmpty() || event.concerns(subscription.statuses)) {
+                subscription.offer(event);
+            }
+        }
+    }
+
+    int subscriberCount() {
+        return subscriptions.size();
+    }
+
+    @Override
+    public void destroy() {
+        subscriptions.forEach(subscription -> {
+            subscription.close();
+            subscription.emitter.complete();
+        });
+    }
+
+    private final class Subscription {
+        private final Set<OrderStatus> statuses;
+        private final SseEmitter emitter;
+        private final BlockingQueue<OrderEvent> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private volatile boolean closed;
+        private Thread sender;
+
+        private Subscription(Set<OrderStatus> statuses, SseEmitter emitter) {
+            this.statuses = statuses;
+            this.emitter = emitter;
+        }
+
+        private void start() {
+            sender = Thread.ofVirtual().name("order-events").start(this::run);
+        }
+
+        private void offer(OrderEvent event) {
+            if (!queue.offer(event)) {
+                logger.warn("Order event stream fell {} events behind, disconnecting it", queueCapacity);
+                close();
+                emitter.complete();
+            }
+        }
+
+        private void run() {
+            try {
+                while (!closed) {
+                    OrderEvent event = queue.poll(heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+                    if (event == null) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    } else {
+                        emitter.send(SseEmitter.event().name(event.type().name()).data(event));
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException | IllegalStateException e) {
+                // client went away or the emitter is already complete; the container reports the error
+            } finally {
+                close();
+            }
+        }
+
+        private void close() {
+            closed = true;
+            subscriptions.remove(this);
+            if (sender != null && sender != Thread.currentThread()) {
+                sender.interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.smartrestaurant.order_service.service;
+
+import com.smartrestaurant.order_service.entity.OutboxEvent;
+
+import java.util.List;
+
+/**
+ * Receives the committed order events relayed from the outbox by {@link OrderOutbox}.
+ * Implement it as a bean to feed another consumer (a broker, a projection, ...).
+ * Delivery is at least once: if any subscriber fails, the whole batch is retried later,
+ * so subscribers must tolerate duplicates (the event id identifies them). Batches are not
+ * ordered with respect to each other: a retried batch can arrive after newer ones.
+ *
+ * @version 1.0
+ */
+public interface OrderEventSubscriber {
+
+    /**
+     * Delivers a batch of events.
+     *
+     * @param events The events, oldest first
+     * @throws RuntimeException if the batch could not be delivered and has to be retried
+     */
+    void deliver(List<OutboxEvent> events);
+
+    /**
+     * Tells whether the subscriber only writes to this service's database. Such a subscriber
+     * runs in the transaction that marks the batch published, so it sees each event exactly once.
+     * The others are called before that, outside any transaction.
+     *
+     * @return true to be called inside the publishing transaction
+     */
+    default boolean transactional() {
+        return false;
+    }
+}
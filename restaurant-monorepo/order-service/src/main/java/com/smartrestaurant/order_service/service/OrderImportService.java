@@ -0,0 +1,246 @@
+package com.smartrestaurant.order_service.service;
+
+import com.smartrestaurant.order_service.client.UserServiceClient;
+import com.smartrestaurant.order_service.config.RemoteCallExecutor;
+import com.smartrestaurant.order_service.dto.DishResponseDto;
+import com.smartrestaurant.order_service.dto.OrderDetailRequestDto;
+import com.smartrestaurant.order_service.dto.OrderImportResultDto;
+import com.smartrestaurant.order_service.dto.OrderRequestDto;
+import com.smartrestaurant.order_service.entity.Order;
+import com.smartrestaurant.order_service.entity.OrderDetail;
+import com.smartrestaurant.order_service.mapper.OrderMapper;
+import com.smartrestaurant.order_service.repository.OrderRepository;
+import feign.FeignException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk ingestion of orders pushed by partner aggregators.
+ * Requests are read lazily and processed in chunks: for each chunk the clients and
+ * dish prices are resolved in bulk (clients missing from the registry are looked up concurrently),
+ * and the valid orders are saved in one transaction,
+ * which Hibernate writes with batched JDBC inserts (order ids come from pooled sequences).
+ * An invalid order is reported in the results and never fails the rest of the import.
+ * Only a 404 from User microservice rejects an order for an unknown client; any other lookup
+ * failure is reported as "Client lookup unavailable", so the partner knows it can resend the order.
+ *
+ * @version 1.0
+ */
+@Service
+public class OrderImportService {
+    private final OrderRepository orderRepository;
+    private final UserServiceClient userServiceClient;
+    private final DishCatalog dishCatalog;
+    private final ClientRegistry clientRegistry;
+    private final RemoteCallExecutor remoteCalls;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+
+    public OrderImportService(OrderRepository orderRepository,
+                              UserServiceClient userServiceClient,
+                              DishCatalog dishCatalog,
+                              ClientRegistry clientRegistry,
+                              RemoteCallExecutor remoteCalls,
+                              Validator validator,
+                              PlatformTransactionManager transactionManager,
+                              ApplicationEventPublisher eventPublisher,
+                              @Value("${order-import.chunk-size:500}") int chunkSize) {
+        this.orderRepository = orderRepository;
+        this.userServiceClient = userServiceClient;
+        this.dishCatalog = dishCatalog;
+        this.clientRegistry = clientRegistry;
+        this.remoteCalls = remoteCalls;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Imports a sequence of orders, committing them chunk by chunk.
+     * If the input becomes unreadable, the orders read so far are still imported and
+     * one last result (at the index of the unreadable entry) reports the problem.
+     *
+     * @param requests The orders to import, in input order
+     * @return One result per input entry, holding either the new order ID or the reason it was rejected
+     */
+    public List<OrderImportResultDto> importOrders(Iterator<OrderRequestDto> requests) {
+        List<OrderImportResultDto> results = new ArrayList<>();
+        List<OrderRequestDto> chunk = new ArrayList<>(chunkSize);
+        int index = 0;
+
+        while (true) {
+            OrderRequestDto request;
+            try {
+                if (!requests.hasNext()) {
+                    break;
+                }
+                request = requests.next();
+            } catch (RuntimeException e) {
+                results.addAll(importChunk(chunk, index - chunk.size()));
+                results.add(new OrderImportResultDto(index, null, "Unreadable order: " + e.getMessage()));
+                return results;
+            }
+
+            chunk.add(request);
+            index++;
+            if (chunk.size() == chunkSize) {
+                results.addAll(importChunk(chunk, index - chunk.size()));
+                chunk.clear();
+            }
+        }
+        results.addAll(importChunk(chunk, index - chunk.size()));
+        return results;
+    }
+
+    private List<OrderImportResultDto> importChunk(List<OrderRequestDto> chunk, int firstIndex) {
+        List<OrderImportResultDto> results = new ArrayList<>(chunk.size());
+        if (chunk.isEmpty()) {
+            return results;
+        }
+
+        Map<Long, String> clientErrors = resolveClients(chunk);
+        Map<Long, DishResponseDto> dishesById;
+        try {
+            dishesById = resolveDishes(chunk);
+        } catch (RuntimeException e) {
+            for (int i = 0; i < chunk.size(); i++) {
+                results.add(new OrderImportResultDto(firstIndex + i, null, "Dish prices unavailable: " + e.getMessage()));
+            }
+            return results;
+        }
+
+        List<Order> orders = new ArrayList<>();
+        List<OrderImportResultDto> pending = new ArrayList<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            OrderRequestDto request = chunk.get(i);
+            OrderImportResultDto result = new OrderImportResultDto(firstIndex + i, null, null);
+            results.add(result);
+
+            String error = validate(request, clientErrors, dishesById);
+            if (error != null) {
+                result.setError(error);
+                continue;
+            }
+            orders.add(toOrder(request, dishesById));
+            pending.add(result);
+        }
+
+        if (!orders.isEmpty()) {
+            try {
+                List<Order> saved = transactionTemplate.execute(status -> {
+                    List<Order> savedOrders = orderRepository.saveAll(orders);
+                    savedOrders.forEach(order -> eventPublisher.publishEvent(OrderEvent.created(OrderMapper.toResponseDto(order))));
+                    return savedOrders;
+                });
+                for (int i = 0; i < pending.size(); i++) {
+                    pending.get(i).setOrderId(saved.get(i).getId());
+                }
+            } catch (RuntimeException e) {
+                pending.forEach(result -> result.setError("Could not be saved: " + e.getMessage()));
+            }
+        }
+        return results;
+    }
+
+    private String validate(OrderRequestDto request, Map<Long, String> clientErrors, Map<Long, DishResponseDto> dishesById) {
+        if (request == null) {
+            return "Order is empty";
+        }
+        String violations = describe(validator.validate(request));
+        if (violations != null) {
+            return violations;
+        }
+        for (OrderDetailRequestDto item : request.getItems()) {
+            violations = item == null ? "items must not contain null" : describe(validator.validate(item));
+            if (violations != null) {
+                return violations;
+            }
+        }
+        String clientError = clientErrors.get(request.getClientId());
+        if (clientError != null) {
+            return clientError;
+        }
+        for (OrderDetailRequestDto item : request.getItems()) {
+            if (!dishesById.containsKey(item.getDishId())) {
+                return "Dish with ID " + item.getDishId() + " does not exist!";
+            }
+        }
+        return null;
+    }
+
+    private String describe(Set<? extends ConstraintViolation<?>> violations) {
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    // maps each client of the chunk that cannot be accepted to the reason; clients not yet
+    // in the registry are looked up in parallel against one deadline for the whole chunk
+    private Map<Long, String> resolveClients(List<OrderRequestDto> chunk) {
+        Map<Long, Future<?>> lookups = new HashMap<>();
+        chunk.stream()
+                .filter(request -> request != null && request.getClientId() != null)
+                .map(OrderRequestDto::getClientId)
+                .distinct()
+                .filter(clientId -> !clientRegistry.contains(clientId))
+                .forEach(clientId -> lookups.put(clientId, remoteCalls.submit(() -> userServiceClient.getUserById(clientId))));
+
+        Map<Long, String> clientErrors = new HashMap<>();
+        long deadline = remoteCalls.deadline();
+        lookups.forEach((clientId, lookup) -> {
+            try {
+                remoteCalls.await(lookup, deadline);
+                clientRegistry.register(clientId);
+            } catch (FeignException.NotFound e) {
+                clientErrors.put(clientId, "Client with  ID " + clientId + " does not exist!");
+            } catch (RuntimeException e) {
+                clientErrors.put(clientId, "Client lookup unavailable: " + e.getMessage());
+            }
+        });
+        return clientErrors;
+    }
+
+    private Map<Long, DishResponseDto> resolveDishes(List<OrderRequestDto> chunk) {
+        Set<Long> dishIds = chunk.stream()
+                .filter(request -> request != null && request.getItems() != null)
+                .flatMap(request -> request.getItems().stream())
+                .filter(item -> item != null && item.getDishId() != null)
+                .map(OrderDetailRequestDto::getDishId)
+                .collect(Collectors.toSet());
+        return dishCatalog.getDishes(dishIds);
+    }
+
+    private Order toOrder(OrderRequestDto request, Map<Long, DishResponseDto> dishesById) {
+        Order order = OrderMapper.toEntity(request);
+        List<OrderDetail> details = request.getItems().stream()
+                .map(item -> OrderMapper.toDetailEntity(item, dishesById.get(item.getDishId()), order))
+                .collect(Collectors.toList());
+        order.setOrderDetails(details);
+        order.setTotalPrice(details.stream()
+                .map(OrderDetail::getPriceAtOrder)
+                .reduce(BigDecimal.ZERO, BigDecimal::add));
+        return order;
+    }
+}
@@ -0,0 +1,157 @@
+package com.smartrestaurant.order_service.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartrestaurant.order_service.entity.OutboxEvent;
+import com.smartrestaurant.order_service.repository.OutboxEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * Transactional outbox for order events.
+ * Every {@link OrderEvent} is written to the order_outbox table by the thread that publishes it,
+ * i.e. inside the transaction that changes the order: the event is stored if and only if
+ * the change commits. A scheduled relay then claims the stored events in batches, oldest first,
+ * commits the claim and hands each batch to every {@link OrderEventSubscriber} without holding
+ * any lock, so slow webhooks never keep a transaction or its row locks open. The batch is marked
+ * published once all subscribers accepted it; a failed batch is released and retried, and so
+ * can arrive after newer ones. A claim expires after outbox.claim-timeout, in case the relay
+ * dies while delivering. Published events are kept for the retention period and then purged.
+ *
+ * @version 1.0
+ */
+@Component
+public class OrderOutbox {
+    private static final Logger logger = LoggerFactory.getLogger(OrderOutbox.class);
+
+    private final OutboxEventRepository repository;
+    private final List<OrderEventSubscriber> subscribers;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration claimTimeout;
+    private final Duration retention;
+
+    public OrderOutbox(OutboxEventRepository repository,
+                       List<OrderEventSubscriber> subscribers,
+                       ObjectMapper objectMapper,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${outbox.batch-size:100}") int batchSize,
+                       @Value("${outbox.claim-timeout:2m}") Duration claimTimeout,
+                       @Value("${outbox.retention:7d}") Duration retention) {
+        this.repository = repository;
+        this.subscribers = subscribers;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.claimTimeout = claimTimeout;
+        this.retention = retention;
+    }
+
+    /**
+     * Stores an order event in the publisher's transaction. A failure here fails the
+     * change that produced the event.
+     *
+     * @param event The order event
+     */
+    @EventListener
+    public void onOrderEvent(OrderEvent event) {
+        try {
+            repository.save(new OutboxEvent(event.type().name(), event.order().getId(),
+                    objectMapper.writeValueAsString(event)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize order event", e);
+        }
+    }
+
+    /**
+     * Relays the pending events to the subscribers, batch after batch, until none are left.
+     * A batch that a subscriber rejects stays pending and is retried on the next run.
+     */
+    @Scheduled(fixedDelayString = "${outbox.poll-interval:1s}")
+    public void relay() {
+        try {
+            int relayed;
+            do {
+                relayed = relayBatch();
+            } while (relayed == batchSize);
+        } catch (Exception e) {
+            logger.warn("Could not relay order events: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Deletes the published events older than the retention period.
+     */
+    @Scheduled(fixedDelayString = "${outbox.purge-interval:1h}")
+    public void purgePublished() {
+        try {
+            Integer deleted = transactionTemplate.execute(status ->
+                    repository.deletePublishedBefore(ZonedDateTime.now().minus(retention)));
+            if (deleted != null && deleted > 0) {
+                logger.info("Purged {} published order events", deleted);
+            }
+        } catch (Exception e) {
+            logger.warn("Could not purge order events: {}", e.getMessage());
+        }
+    }
+
+    private int relayBatch() {
+        List<OutboxEvent> batch = transactionTemplate.execute(status -> claimBatch());
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = batch.stream().map(OutboxEvent::getId).toList();
+        try {
+            for (OrderEventSubscriber subscriber : subscribers) {
+                if (!subscriber.transactional()) {
+                    subscriber.deliver(batch);
+                }
+            }
+            transactionTemplate.executeWithoutResult(status -> publish(batch, ids));
+        } catch (RuntimeException e) {
+            releaseClaims(ids);
+            throw e;
+        }
+        return batch.size();
+    }
+
+    private List<OutboxEvent> claimBatch() {
+        ZonedDateTime now = ZonedDateTime.now();
+        List<OutboxEvent> batch = repository.findClaimable(now, Limit.of(batchSize));
+        batch.forEach(event -> event.setClaimedUntil(now.plus(claimTimeout)));
+        return batch;
+    }
+
+    private void publish(List<OutboxEvent> batch, List<Long> ids) {
+        // the update locks the rows; fewer than claimed means another relay published them after our claim expired
+        if (repository.markPublished(ids, ZonedDateTime.now()) != ids.size()) {
+            throw new IllegalStateException("Claim on order events " + ids + " expired before they were published");
+        }
+        for (OrderEventSubscriber subscriber : subscribers) {
+            if (subscriber.transactional()) {
+                subscriber.deliver(batch);
+            }
+        }
+    }
+
+    // best effort: if this fails too, the events are claimed again once the claim expires
+    private void releaseClaims(List<Long> ids) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> repository.releaseClaims(ids));
+        } catch (RuntimeException e) {
+            logger.warn("Could not release claim on order events {}: {}", ids, e.getMessage());
+        }
+    }
+}
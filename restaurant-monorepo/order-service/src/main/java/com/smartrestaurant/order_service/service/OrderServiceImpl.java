@@ -2,18 +2,31 @@ package com.smartrestaurant.order_service.service;
 
 import com.smartrestaurant.order_service.client.MenuServiceClient;
 import com.smartrestaurant.order_service.client.UserServiceClient;
+import com.smartrestaurant.order_service.config.RemoteCallExecutor;
 import com.smartrestaurant.order_service.dto.*;
 import com.smartrestaurant.order_service.entity.Order;
 import com.smartrestaurant.order_service.entity.OrderDetail;
 import com.smartrestaurant.order_service.entity.OrderStatus;
 import com.smartrestaurant.order_service.mapper.OrderMapper;
 import com.smartrestaurant.order_service.repository.OrderRepository;
+import feign.FeignException;
 import jakarta.transaction.Transactional;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -28,36 +41,61 @@ import java.util.stream.Collectors;
 @Service
 @Transactional
 public  class OrderServiceImpl implements IOrderService {
+    private static final int STREAM_CHUNK_SIZE = 500;
+    // larger page sizes are reduced to this, so a single request cannot load the whole table
+    static final int MAX_PAGE_SIZE = 1000;
+
     private final OrderRepository orderRepository;
     private final MenuServiceClient menuServiceClient;
     private final UserServiceClient userServiceClient;
+    private final DishCatalog dishCatalog;
+    private final RemoteCallExecutor remoteCalls;
+    private final ClientRegistry clientRegistry;
+    private final IdempotencyStore idempotencyStore;
+    private final ApplicationEventPublisher eventPublisher;
 
     public OrderServiceImpl(OrderRepository orderRepository,
                             MenuServiceClient menuServiceClient,
-                            UserServiceClient userServiceClient) {
+                            UserServiceClient userServiceClient,
+                            DishCatalog dishCatalog,
+                            RemoteCallExecutor remoteCalls,
+                            ClientRegistry clientRegistry,
+                            IdempotencyStore idempotencyStore,
+                            ApplicationEventPublisher eventPublisher) {
         this.orderRepository = orderRepository;
         this.menuServiceClient = menuServiceClient;
         this.userServiceClient = userServiceClient;
+        this.dishCatalog = dishCatalog;
+        this.remoteCalls = remoteCalls;
+        this.clientRegistry = clientRegistry;
+        this.idempotencyStore = idempotencyStore;
+        this.eventPublisher = eventPublisher;
     }
 
 
     /**
      * Creates a new order in the system.
-     * Validates that the client exists in the user service and retrieves dish information
-     * from the menu service before creating the order.
+     * Validates that the client exists and retrieves dish information from the menu service
+     * before creating the order. The client is checked against the local ClientRegistry first;
+     * the user service is only called for IDs the registry does not know yet.
+     * Only a 404 from the user service means that the client does not exist; any other failure
+     * of the lookup (open circuit breaker, full bulkhead, timeout) is rethrown unchanged.
      *
      * @param request The order request containing client ID, delivery address, and items
      * @return OrderResponseDto The created order with generated ID and calculated total price
-     * @throws NoSuchElementException if the client ID does not exist in the user service
+     * @throws NoSuchElementException if the client ID or one of the dish IDs does not exist
      * @author [Vilcu Andreea] - [11.01.2026]
      */
     @Override
     public OrderResponseDto createOrder(OrderRequestDto request) {
 
-        try {
-            userServiceClient.getUserById(request.getClientId());
-        } catch (Exception e) {
-            throw new NoSuchElementException("Client with  ID " + request.getClientId()  +" does not exist!");
+        if (!clientRegistry.contains(request.getClientId())) {
+            try {
+                userServiceClient.getUserById(request.getClientId());
+            } catch (FeignException.NotFound e) {
+                throw new NoSuchElementException("Client with  ID " + request.getClientId()  +" does not exist!");
+            }
+            clientRegistry.register(request.getClientId());
         }
 
         Order order = OrderMapper.toEntity(request);
@@ -65,18 +103,42 @@ public  class OrderServiceImpl implements IOrderService {
         List<OrderDetail> details = mapDetailsRequestToEntity(request.getItems(), order);
 
         order.setOrderDetails(details);
-        BigDecimal total = details.stream()
-                .map(OrderDetail::getPriceAtOrder)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        order.setTotalPrice(total);
+        order.setTotalPrice(calculateTotalPrice(details));
         order.setStatus(OrderStatus.PLACED);
 
         Order savedOrder = orderRepository.save(order);
-        return OrderMapper.toResponseDto(savedOrder);
+        OrderResponseDto response = OrderMapper.toResponseDto(savedOrder);
+        eventPublisher.publishEvent(OrderEvent.created(response));
+        return response;
 
     }
 
+    /**
+     * Creates a new order at most once per Idempotency-Key.
+     * A retry with a key that was already used returns the original response without
+     * creating anything or calling the other services. The key is stored in the same
+     * transaction as the order, so of two concurrent requests with the same key only one commits.
+     *
+     * @param request The order request containing client ID, delivery address, and items
+     * @param idempotencyKey The key chosen by the client for this order
+     * @return OrderResponseDto The created order, or the one created earlier with the same key
+     * @throws NoSuchElementException if the client ID or one of the dish IDs does not exist
+     * @throws InvalidIdempotencyKeyException if the key is blank or too long
+     * @throws IllegalArgumentException if the key was used for a different request
+     * @throws DuplicateIdempotencyKeyException if a request with the same key was completed concurrently
+     */
+    @Override
+    public OrderResponseDto createOrder(OrderRequestDto request, String idempotencyKey) {
+        Optional<OrderResponseDto> original = idempotencyStore.findOriginal(idempotencyKey, request);
+        if (original.isPresent()) {
+            return original.get();
+        }
+
+        OrderResponseDto response = createOrder(request);
+        idempotencyStore.remember(idempotencyKey, request, response);
+        return response;
+    }
+
     /**
      * Retrieves an order by its unique identifier.
      *
@@ -94,21 +156,66 @@ public  class OrderServiceImpl implements IOrderService {
     }
 
     /**
-     * Retrieves all orders from the database.
+     * Retrieves all orders from the database, loading their details in the same query.
      *
      * @return List of OrderResponseDto containing all orders in the system
      * @author [Vilcu Andreea] - [11.01.2026]
      */
     @Override
     public List<OrderResponseDto> getAllOrders() {
-        return orderRepository.findAll().stream()
+        return orderRepository.findAllWithDetails().stream()
                 .map(OrderMapper::toResponseDto)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Retrieves one page of orders using keyset pagination on the order ID.
+     * Unlike offset paging, the cost of a page does not grow with its position in the table.
+     *
+     * @param afterId The last order ID of the previous page, or null for the first page
+     * @param size The maximum number of orders in the page, at most MAX_PAGE_SIZE
+     * @return OrderPageResponseDto The orders in ascending ID order and the cursor of the next page,
+     *         which is null when there are no more orders
+     * @throws IllegalArgumentException if size is less than one
+     */
+    @Override
+    public OrderPageResponseDto getOrdersPage(Long afterId, int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1");
+        }
+
+        int limit = Math.min(size, MAX_PAGE_SIZE);
+        List<OrderResponseDto> items = loadOrdersAfter(afterId == null ? 0L : afterId, limit);
+        Long nextCursor = items.size() == limit ? items.get(items.size() - 1).getId() : null;
+
+        return new OrderPageResponseDto(items, nextCursor);
+    }
+
+    /**
+     * Passes every order to the given consumer, in ascending ID order.
+     * Orders are read in keyset-paged chunks, each in its own short transaction,
+     * so memory use stays constant no matter how many orders exist.
+     *
+     * @param consumer Receives each order as soon as its chunk has been read
+     */
+    @Override
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public void streamAllOrders(Consumer<OrderResponseDto> consumer) {
+        long afterId = 0L;
+        List<OrderResponseDto> chunk;
+        do {
+            chunk = loadOrdersAfter(afterId, STREAM_CHUNK_SIZE);
+            chunk.forEach(consumer);
+            if (!chunk.isEmpty()) {
+                afterId = chunk.get(chunk.size() - 1).getId();
+            }
+        } while (chunk.size() == STREAM_CHUNK_SIZE);
+    }
+
     /**
      * Updates an existing order's delivery address and items.
-     * Recalculates the total price based on the new items.
+     * Recalculates the total price from the same dish prices used for the new items,
+     * so each dish is fetched from Menu Service only once per update.
      * The order status is not modified by this operation.
      *
      * @param orderId The ID of the order to update
@@ -122,14 +229,17 @@ public  class OrderServiceImpl implements IOrderService {
         Order existingOrder = orderRepository.findById(orderId)
                 .orElseThrow(() -> new NoSuchElementException("Order not found" + orderId));
 
+        BigDecimal previousTotalPrice = existingOrder.getTotalPrice();
         existingOrder.setDeliveryAddress(updateRequest.getDeliveryAddress());
 
         existingOrder.getOrderDetails().clear();
         List<OrderDetail> newDetails = mapDetailsRequestToEntity(updateRequest.getItems(), existingOrder);
         existingOrder.getOrderDetails().addAll(newDetails);
 
-        existingOrder.setTotalPrice(calculateTotalPrice(updateRequest.getItems()));
-        return OrderMapper.toResponseDto(orderRepository.save(existingOrder));
+        existingOrder.setTotalPrice(calculateTotalPrice(newDetails));
+        OrderResponseDto response = OrderMapper.toResponseDto(orderRepository.save(existingOrder));
+        eventPublisher.publishEvent(OrderEvent.updated(response, previousTotalPrice));
+        return response;
 
     }
 
@@ -141,23 +251,45 @@ public  class OrderServiceImpl implements IOrderService {
      * @return OrderResponseDto The updated order with new status
      * @throws NoSuchElementException if the order is not found
      * @throws IllegalStateException if the order is not in PLACED status
+     * @throws OptimisticLockingFailureException if the order was changed concurrently
      * @author [Vilcu Andreea] - [11.01.2026]
      */
     @Override
     public OrderResponseDto updateStatusReadyForPreparation(Long id) {
+        return changeStatus(id, OrderStatus.READY_FOR_PREPARATION);
+    }
+
+    /**
+     * Moves an order to a new status, following the transitions allowed by OrderStatus.
+     * The change is a single conditional UPDATE on the order version, so when two requests
+     * race on the same order exactly one of them wins, without locking the row in advance.
+     *
+     * @param id The ID of the order to update
+     * @param status The status to move the order to
+     * @return OrderResponseDto The updated order with new status
+     * @throws NoSuchElementException if the order is not found
+     * @throws IllegalStateException if the current status cannot move to the requested one
+     * @throws OptimisticLockingFailureException if the order was changed concurrently
+     */
+    @Override
+    public OrderResponseDto changeStatus(Long id, OrderStatus status) {
         Order order = orderRepository.findById(id)
                 .orElseThrow(() -> new NoSuchElementException("Order not found with ID: " + id));
 
-        if (order.getStatus() != OrderStatus.PLACED) {
+        if (!order.getStatus().canTransitionTo(status)) {
             throw new IllegalStateException(
-                    "Cannot change status to READY_FOR_PREPARATION. Current status is: " + order.getStatus()
+                    "Cannot change status to " + status + ". Current status is: " + order.getStatus()
             );
         }
 
-        order.setStatus(OrderStatus.READY_FOR_PREPARATION);
-        Order updatedOrder = orderRepository.save(order);
-
-        return OrderMapper.toResponseDto(updatedOrder);
+        // mapped before the update, which detaches the order
+        OrderResponseDto response = OrderMapper.toResponseDto(order);
+        if (orderRepository.updateStatus(id, order.getVersion(), status) == 0) {
+            throw new OptimisticLockingFailureException("Order " + id + " was changed concurrently");
+        }
+        response.setStatus(status);
+        eventPublisher.publishEvent(OrderEvent.statusChanged(response, order.getStatus()));
+        return response;
     }
 
     /**
@@ -177,6 +309,7 @@ public  class OrderServiceImpl implements IOrderService {
         OrderResponseDto responseDto = OrderMapper.toResponseDto(order);
 
         orderRepository.delete(order);
+        eventPublisher.publishEvent(OrderEvent.deleted(responseDto));
 
         return responseDto;
     }
@@ -184,10 +317,13 @@ public  class OrderServiceImpl implements IOrderService {
     /**
      * Retrieves detailed information about an order including client email and dish names.
      * This method aggregates data from order-service, user-service, and menu-service.
+     * The client lookup and the (deduplicated) dish lookup run concurrently,
+     * both bounded by the same deadline.
      *
      * @param id The ID of the order to retrieve
      * @return OrderDetailedResponseDto containing order details with client email and dish names
      * @throws NoSuchElementException if the order is not found
+     * @throws com.smartrestaurant.order_service.config.RemoteCallTimeoutException if the remote lookups do not finish before the deadline
      * @author [Vilcu Andreea] - [11.01.2026]
      */
     @Override
@@ -195,11 +331,31 @@ public  class OrderServiceImpl implements IOrderService {
         Order order  = orderRepository.findById(id)
                 .orElseThrow(() -> new NoSuchElementException("Order not found " + id));
 
-        UserResponseDto userDto = userServiceClient.getUserById(order.getClientId());
+        Set<Long> dishIds = order.getOrderDetails().stream()
+                .map(OrderDetail::getDishId)
+                .collect(Collectors.toSet());
+
+        long deadline = remoteCalls.deadline();
+        Future<UserResponseDto> user = remoteCalls.submit(() -> userServiceClient.getUserById(order.getClientId()));
+        Future<Map<Long, DishResponseDto>> dishes = remoteCalls.submit(() -> dishCatalog.getDishes(dishIds));
+
+        UserResponseDto userDto;
+        Map<Long, DishResponseDto> dishesById;
+        try {
+            userDto = remoteCalls.await(user, deadline);
+            dishesById = remoteCalls.await(dishes, deadline);
+        } finally {
+            user.cancel(true);
+            dishes.cancel(true);
+        }
 
         List<String> dishNames = order.getOrderDetails().stream()
                 .map(detail -> {
-                    return menuServiceClient.getDishById(detail.getDishId()).getName();
+                    DishResponseDto dish = dishesById.get(detail.getDishId());
+                    if (dish == null) {
+                        throw new NoSuchElementException("Dish with ID " + detail.getDishId() + " does not exist!");
+                    }
+                    return dish.getName();
                 })
                 .collect(Collectors.toList());
 
@@ -215,26 +371,31 @@ public  class OrderServiceImpl implements IOrderService {
 
     /**
      * Searches for orders placed by clients whose name contains the specified string.
-     * Queries the user service to find matching clients, then filters orders by those client IDs.
+     * Queries the user service to find matching clients, then lets the database filter
+     * orders by those client IDs, one page at a time (newest orders first).
      *
      * @param name The name or partial name to search for
+     * @param page The zero-based page index
+     * @param size The maximum number of orders per page, at most MAX_PAGE_SIZE
      * @return List of OrderResponseDto for orders placed by matching clients, empty list if no matches
+     * @throws IllegalArgumentException if page is negative or size is less than one
      * @author [Vilcu Andreea] - [11.01.2026]
      */
     @Override
-    public List<OrderResponseDto> getOrdersByClientName(String name) {
+    public List<OrderResponseDto> getOrdersByClientName(String name, int page, int size) {
+        Pageable pageable = PageRequest.of(page, Math.min(size, MAX_PAGE_SIZE), Sort.by(Sort.Direction.DESC, "id"));
+
         List<UserResponseDto> users = userServiceClient.searchUsersByName(name);
 
         if(users.isEmpty()) {
             return List.of();
         }
 
-        List<Long> userIds = users.stream()
+        Set<Long> userIds = users.stream()
                 .map(UserResponseDto::getId)
-                .toList();
+                .collect(Collectors.toSet());
 
-        return orderRepository.findAll().stream()
-                .filter(order -> userIds.contains(order.getClientId()))
+        return orderRepository.findByClientIdIn(userIds, pageable).stream()
                 .map(OrderMapper::toResponseDto)
                 .collect(Collectors.toList());
 
@@ -243,28 +404,32 @@ public  class OrderServiceImpl implements IOrderService {
 
     /**
      * Searches for orders containing dishes whose name matches the specified string.
-     * Queries the menu service to find matching dishes, then filters orders containing those dishes.
+     * Queries the menu service to find matching dishes, then lets the database select
+     * the orders containing those dishes, one page at a time (newest orders first).
      *
      * @param dishName The dish name or partial name to search for
+     * @param page The zero-based page index
+     * @param size The maximum number of orders per page, at most MAX_PAGE_SIZE
      * @return List of OrderResponseDto for orders containing matching dishes, empty list if no matches
+     * @throws IllegalArgumentException if page is negative or size is less than one
      * @author [Vilcu Andreea] - [11.01.2026]
      */
     @Override
-    public List<OrderResponseDto> getOrdersByDishName(String dishName) {
+    public List<OrderResponseDto> getOrdersByDishName(String dishName, int page, int size) {
+        Pageable pageable = PageRequest.of(page, Math.min(size, MAX_PAGE_SIZE), Sort.by(Sort.Direction.DESC, "id"));
+
         List<DishResponseDto> dishes = menuServiceClient.searchDishesByName(dishName);
 
         if (dishes.isEmpty()) {
             return List.of();
         }
 
-        List<Long> dishIds = dishes.stream()
+        Set<Long> dishIds = dishes.stream()
                 .map(DishResponseDto::getId)
                 .map(Long::valueOf)
-                .toList();
+                .collect(Collectors.toSet());
 
-        return orderRepository.findAll().stream()
-                .filter(order -> order.getOrderDetails().stream()
-                        .anyMatch(detail -> dishIds.contains(detail.getDishId())))
+        return orderRepository.findContainingAnyDish(dishIds, pageable).stream()
                 .map(OrderMapper::toResponseDto)
                 .collect(Collectors.toList());
     }
@@ -292,16 +457,19 @@ public  class OrderServiceImpl implements IOrderService {
     /**
      * Retrieves orders with a total price greater than the specified minimum amount,
      * sorted in descending order by total price.
+     * Sorting and paging are done by the database, so only the requested page is loaded.
      * Useful for identifying high-value orders or generating reports on large transactions.
      *
      * @param minTotal The minimum total price threshold (must be non-negative)
+     * @param page The zero-based page index
+     * @param size The maximum number of orders per page, at most MAX_PAGE_SIZE
      * @return List of OrderResponseDto for orders exceeding the minimum total,
      *         sorted from highest to lowest total price
-     * @throws IllegalArgumentException if minTotal is null or negative
+     * @throws IllegalArgumentException if minTotal is null or negative, page is negative or size is less than one
      * @author [Vilcu Andreea] - [11.01.2026]
      */
     @Override
-    public List<OrderResponseDto> getLargeOrdersSortedByTotal(BigDecimal minTotal) {
+    public List<OrderResponseDto> getLargeOrdersSortedByTotal(BigDecimal minTotal, int page, int size) {
         if(minTotal == null){
             throw new IllegalArgumentException("Minimum total cannot be null");
         }
@@ -310,58 +478,73 @@ public  class OrderServiceImpl implements IOrderService {
             throw new IllegalArgumentException("Minimum total cannot be negative");
         }
 
-        List<Order> largeOrders = orderRepository.findByTotalPriceGreaterThan(minTotal);
+        Pageable pageable = PageRequest.of(page, Math.min(size, MAX_PAGE_SIZE),
+                Sort.by(Sort.Direction.DESC, "totalPrice").and(Sort.by(Sort.Direction.DESC, "id")));
 
-        return largeOrders.stream()
-                .sorted((o1, o2) -> o2.getTotalPrice().compareTo(o1.getTotalPrice()))
+        return orderRepository.findByTotalPriceGreaterThan(minTotal, pageable).stream()
                 .map(OrderMapper::toResponseDto)
                 .collect(Collectors.toList());
     }
 
 
     /**
-     * Calculates the total price for a list of order items.
-     * Fetches the current prices from Menu Service for each dish and multiplies by quantity.
-     * This method is used during order updates to recalculate the total based on current menu prices.
+     * Loads the orders following the given ID together with their details.
+     * The IDs are selected first so that the details can be fetch-joined without paging in memory.
      *
-     * @param items The list of order items
-     * @return BigDecimal The calculated total price based on current menu prices
+     * @param afterId Only orders with a greater ID are returned
+     * @param size The maximum number of orders to load
+     * @return List of OrderResponseDto in ascending ID order
+     */
+    private List<OrderResponseDto> loadOrdersAfter(long afterId, int size) {
+        List<Long> ids = orderRepository.findIdsAfter(afterId, Limit.of(size));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        return orderRepository.findAllWithDetailsByIdIn(ids).stream()
+                .map(OrderMapper::toResponseDto)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Calculates the total price of an order from its detail rows.
+     * Uses the price already stored on each detail, so the total always matches
+     * the priceAtOrder values saved with the order.
+     *
+     * @param details The order details with their prices at order time
+     * @return BigDecimal The sum of all detail prices
      * @author [Vilcu Andreea] - [11.01.2026]
      */
-    private BigDecimal calculateTotalPrice(List<OrderDetailRequestDto> items) {
-        return items.stream()
-                .map(item -> {
-                    DishResponseDto dish = menuServiceClient.getDishById(item.getDishId());
-                    return dish.getPrice().multiply(BigDecimal.valueOf(item.getQuantity()));
-                })
+    private BigDecimal calculateTotalPrice(List<OrderDetail> details) {
+        return details.stream()
+                .map(OrderDetail::getPriceAtOrder)
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
     }
 
     /**
      * Maps order detail request DTOs to OrderDetail entities.
-     * Fetches current dish prices from Menu Service and calculates the price at order time.
+     * Resolves current dish prices through the local dish catalog (at most one batch call to Menu Service)
+     * and calculates the price at order time.
      * This ensures orders maintain historical pricing even if menu prices change later.
      *
      * @param items The list of order item requests
      * @param order The parent order entity
      * @return List of OrderDetail entities with current prices and quantities
+     * @throws NoSuchElementException if a requested dish does not exist in the menu service
      * @author [Vilcu Andreea] - [11.01.2026]
      */
     private List<OrderDetail> mapDetailsRequestToEntity(List<OrderDetailRequestDto> items, Order order) {
+        Map<Long, DishResponseDto> dishesById = dishCatalog.getDishes(items.stream()
+                .map(OrderDetailRequestDto::getDishId)
+                .collect(Collectors.toSet()));
 
         return items.stream()
                 .map(itemReq -> {
-                    DishResponseDto dish = menuServiceClient.getDishById(itemReq.getDishId());
-
-                    OrderDetail detail = new OrderDetail();
-                    detail.setDishId(Long.valueOf(dish.getId()));
-                    detail.setQuantity(itemReq.getQuantity());
-                    detail.setOrder(order);
-
-                    BigDecimal itemTotal = dish.getPrice().multiply(BigDecimal.valueOf(itemReq.getQuantity()));
-                    detail.setPriceAtOrder(itemTotal);
-
-                    return detail;
+                    DishResponseDto dish = dishesById.get(itemReq.getDishId());
+                    if (dish == null) {
+                        throw new NoSuchElementException("Dish with ID " + itemReq.getDishId() + " does not exist!");
+                    }
+                    return OrderMapper.toDetailEntity(itemReq, dish, order);
                 })
                 .collect(Collectors.toList());
     }
@@ -0,0 +1,214 @@
+package com.smartrestaurant.order_service.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartrestaurant.order_service.dto.OrderResponseDto;
+import com.smartrestaurant.order_service.entity.OrderStatsBucket;
+import com.smartrestaurant.order_service.entity.OrderStatsKey;
+import com.smartrestaurant.order_service.entity.OrderStatus;
+import com.smartrestaurant.order_service.entity.OutboxEvent;
+import com.smartrestaurant.order_service.repository.OrderRepository;
+import com.smartrestaurant.order_service.repository.OrderStatsRepository;
+import com.smartrestaurant.order_service.repository.OutboxEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Keeps the order_stats table up to date: order count and revenue per status, per hour of
+ * placement (UTC) and per client. It is an outbox subscriber, so every committed order change
+ * is applied exactly once, as a delta, in the relay transaction that marks the event published;
+ * the order transactions themselves never touch the few hot status rows.
+ * Canceled orders are counted under their status only: they add nothing to the hourly and
+ * client figures. The table can be rebuilt from the orders at any time.
+ *
+ * @version 1.0
+ */
+@Component
+public class OrderStatsProjection implements OrderEventSubscriber {
+    static final DateTimeFormatter HOUR_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH");
+    private static final int REBUILD_ATTEMPTS = 3;
+    private static final Logger logger = LoggerFactory.getLogger(OrderStatsProjection.class);
+
+    private final OrderStatsRepository statsRepository;
+    private final OrderRepository orderRepository;
+    private final OutboxEventRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate rebuildTransaction;
+
+    public OrderStatsProjection(OrderStatsRepository statsRepository,
+                                OrderRepository orderRepository,
+                                OutboxEventRepository outboxRepository,
+                                ObjectMapper objectMapper,
+                                PlatformTransactionManager transactionManager) {
+        this.statsRepository = statsRepository;
+        this.orderRepository = orderRepository;
+        this.outboxRepository = outboxRepository;
+        this.objectMapper = objectMapper;
+        this.rebuildTransaction = new TransactionTemplate(transactionManager);
+        this.rebuildTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    /**
+     * Applies a batch of order events to the stats, one UPDATE per touched bucket.
+     * Runs in the relay transaction that marks the batch published, so the batch and the
+     * stats commit or roll back together.
+     *
+     * @param events The events of the batch
+     */
+    @Override
+    public void deliver(List<OutboxEvent> events) {
+        Map<OrderStatsKey, Delta> deltas = new HashMap<>();
+        for (OutboxEvent event : events) {
+            addDeltas(deltas, event, 1);
+        }
+        deltas.forEach((key, delta) -> {
+            if (delta.isZero()) {
+                return;
+            }
+            if (statsRepository.increment(key, delta.count, delta.revenue) == 0) {
+                statsRepository.save(new OrderStatsBucket(key, delta.count, delta.revenue));
+            }
+        });
+    }
+
+    @Override
+    public boolean transactional() {
+        return true;
+    }
+
+    /**
+     * Recomputes the whole table from the orders. Events still waiting in the outbox are
+     * already part of the orders, so their deltas are taken out again: the relay adds them back.
+     * Retried a few times if a relay batch commits concurrently.
+     */
+    public void rebuild() {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                rebuildTransaction.executeWithoutResult(status -> rebuildBuckets());
+                return;
+            } catch (ConcurrencyFailureException | DataIntegrityViolationException e) {
+                if (attempt == REBUILD_ATTEMPTS) {
+                    throw e;
+                }
+                logger.info("Order stats rebuild conflicted with the relay, retrying: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Builds the table on the first start, when orders exist but no stats do yet.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        try {
+            if (statsRepository.count() == 0 && orderRepository.count() > 0) {
+                rebuild();
+                logger.info("Built order stats from the existing orders");
+            }
+        } catch (Exception e) {
+            logger.warn("Could not build order stats: {}", e.getMessage());
+        }
+    }
+
+    private void rebuildBuckets() {
+        statsRepository.deleteAllInBatch();
+        Map<OrderStatsKey, Delta> buckets = new HashMap<>();
+        try (Stream<OrderRepository.OrderStatsSource> orders = orderRepository.streamStatsSources()) {
+            orders.forEach(order -> addContribution(buckets, order.getClientId(), order.getStatus(),
+                    order.getTotalPrice(), order.getPlacementDate(), 1));
+        }
+        for (OutboxEvent pending : outboxRepository.findAllUnpublished()) {
+            addDeltas(buckets, pending, -1);
+        }
+        statsRepository.saveAll(buckets.entrySet().stream()
+                .filter(bucket -> !bucket.getValue().isZero())
+                .map(bucket -> new OrderStatsBucket(bucket.getKey(), bucket.getValue().count, bucket.getValue().revenue))
+                .toList());
+    }
+
+    private void addDeltas(Map<OrderStatsKey, Delta> deltas, OutboxEvent outboxEvent, int sign) {
+        OrderEvent event = readEvent(outboxEvent);
+        OrderResponseDto order = event.order();
+        ZonedDateTime placed = order.getPlacementDate() != null ? order.getPlacementDate() : outboxEvent.getCreatedAt();
+        switch (event.type()) {
+            case CREATED -> addContribution(deltas, order.getClientId(), order.getStatus(),
+                    order.getTotalPrice(), placed, sign);
+            case UPDATED -> {
+                addContribution(deltas, order.getClientId(), order.getStatus(),
+                        event.previousTotalPrice(), placed, -sign);
+                addContribution(deltas, order.getClientId(), order.getStatus(),
+                        order.getTotalPrice(), placed, sign);
+            }
+            case STATUS_CHANGED -> {
+                addContribution(deltas, order.getClientId(), event.previousStatus(),
+                        order.getTotalPrice(), placed, -sign);
+                addContribution(deltas, order.getClientId(), order.getStatus(),
+                        order.getTotalPrice(), placed, sign);
+            }
+            case DELETED -> addContribution(deltas, order.getClientId(), order.getStatus(),
+                    order.getTotalPrice(), placed, -sign);
+        }
+    }
+
+    private static void addContribution(Map<OrderStatsKey, Delta> deltas, Long clientId, OrderStatus status,
+                                        BigDecimal totalPrice, ZonedDateTime placed, int sign) {
+        BigDecimal revenue = totalPrice == null ? BigDecimal.ZERO : totalPrice;
+        add(deltas, new OrderStatsKey(OrderStatsKey.STATUS, status.name()), sign, revenue);
+        if (status == OrderStatus.CANCELED) {
+            return;
+        }
+        if (placed != null) {
+            add(deltas, new OrderStatsKey(OrderStatsKey.HOUR, hourBucket(placed)), sign, revenue);
+        }
+        if (clientId != null) {
+            add(deltas, new OrderStatsKey(OrderStatsKey.CLIENT, clientId.toString()), sign, revenue);
+        }
+    }
+
+    private static void add(Map<OrderStatsKey, Delta> deltas, OrderStatsKey key, int sign, BigDecimal revenue) {
+        deltas.computeIfAbsent(key, k -> new Delta()).add(sign, revenue);
+    }
+
+    static String hourBucket(ZonedDateTime time) {
+        return time.withZoneSameInstant(ZoneOffset.UTC).format(HOUR_FORMAT);
+    }
+
+    private OrderEvent readEvent(OutboxEvent outboxEvent) {
+        try {
+            return objectMapper.readValue(outboxEvent.getPayload(), OrderEvent.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not read order event " + outboxEvent.getId(), e);
+        }
+    }
+
+    private static final class Delta {
+        private long count;
+        private BigDecimal revenue = BigDecimal.ZERO;
+
+        private void add(int sign, BigDecimal amount) {
+            count += sign;
+            revenue = sign > 0 ? revenue.add(amount) : revenue.subtract(amount);
+        }
+
+        private boolean isZero() {
+            return count == 0 && revenue.signum() == 0;
+        }
+    }
+}
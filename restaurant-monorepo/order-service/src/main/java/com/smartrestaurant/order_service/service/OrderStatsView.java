@@ -0,0 +1,121 @@
+package com.smartrestaurant.order_service.service;
+
+import com.smartrestaurant.order_service.dto.OrderStatsDto;
+import com.smartrestaurant.order_service.dto.OrderStatsEntryDto;
+import com.smartrestaurant.order_service.entity.OrderStatsBucket;
+import com.smartrestaurant.order_service.entity.OrderStatsKey;
+import com.smartrestaurant.order_service.entity.OrderStatus;
+import com.smartrestaurant.order_service.repository.OrderStatsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Serves the order statistics from memory. The status and hourly buckets are small, so
+ * they are reloaded from order_stats as a whole on a schedule and the daily totals are
+ * derived from them once per reload; a request only reads the current snapshot.
+ * Per-client figures are read from the table by primary key.
+ *
+ * @version 1.0
+ */
+@Component
+public class OrderStatsView {
+    private static final Logger logger = LoggerFactory.getLogger(OrderStatsView.class);
+
+    private final OrderStatsRepository repository;
+    private volatile Snapshot snapshot = new Snapshot(0, BigDecimal.ZERO, Map.of(), new TreeMap<>(), Map.of());
+
+    public OrderStatsView(OrderStatsRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Returns the totals, the figures per status and per day.
+     *
+     * @return The order statistics as of the last reload
+     */
+    public OrderStatsDto getStats() {
+        Snapshot current = snapshot;
+        return new OrderStatsDto(current.totalOrders(), current.totalRevenue(),
+                current.byStatus(), current.byDay());
+    }
+
+    /**
+     * Returns the figures for each hour of a day (UTC) that had orders.
+     *
+     * @param date The day
+     * @return The figures keyed by hour, in order
+     */
+    public Map<String, OrderStatsEntryDto> getHourly(LocalDate date) {
+        String day = date.toString();
+        return Collections.unmodifiableMap(snapshot.byHour().subMap(day + "T00", true, day + "T23", true));
+    }
+
+    /**
+     * Returns the figures of one client, canceled orders excluded.
+     *
+     * @param clientId The ID of the client
+     * @return The client's order count and revenue, zero if the client has no orders
+     */
+    public OrderStatsEntryDto getClientStats(Long clientId) {
+        return repository.findById(new OrderStatsKey(OrderStatsKey.CLIENT, clientId.toString()))
+                .map(OrderStatsView::toEntry)
+                .orElseGet(() -> new OrderStatsEntryDto(0, BigDecimal.ZERO));
+    }
+
+    /**
+     * Reloads the status and hourly buckets.
+     */
+    @Scheduled(fixedDelayString = "${order-stats.refresh-interval:5s}")
+    public void refresh() {
+        try {
+            snapshot = load(repository.findByKeyDimensionIn(List.of(OrderStatsKey.STATUS, OrderStatsKey.HOUR)));
+        } catch (Exception e) {
+            logger.warn("Could not refresh order stats: {}", e.getMessage());
+        }
+    }
+
+    private static Snapshot load(List<OrderStatsBucket> buckets) {
+        Map<OrderStatus, OrderStatsEntryDto> byStatus = new EnumMap<>(OrderStatus.class);
+        TreeMap<String, OrderStatsEntryDto> byHour = new TreeMap<>();
+        TreeMap<String, OrderStatsEntryDto> byDay = new TreeMap<>();
+        long totalOrders = 0;
+        BigDecimal totalRevenue = BigDecimal.ZERO;
+        for (OrderStatsBucket bucket : buckets) {
+            OrderStatsEntryDto entry = toEntry(bucket);
+            if (OrderStatsKey.STATUS.equals(bucket.getKey().getDimension())) {
+                byStatus.put(OrderStatus.valueOf(bucket.getKey().getBucket()), entry);
+                totalOrders += entry.getOrderCount();
+                if (!OrderStatus.CANCELED.name().equals(bucket.getKey().getBucket())) {
+                    totalRevenue = totalRevenue.add(entry.getRevenue());
+                }
+            } else {
+                byHour.put(bucket.getKey().getBucket(), entry);
+                byDay.merge(bucket.getKey().getBucket().substring(0, 10), entry, OrderStatsView::sum);
+            }
+        }
+        return new Snapshot(totalOrders, totalRevenue, Collections.unmodifiableMap(byStatus), byHour,
+                Collections.unmodifiableMap(byDay));
+    }
+
+    private static OrderStatsEntryDto toEntry(OrderStatsBucket bucket) {
+        return new OrderStatsEntryDto(bucket.getOrderCount(), bucket.getRevenue());
+    }
+
+    private static OrderStatsEntryDto sum(OrderStatsEntryDto a, OrderStatsEntryDto b) {
+        return new OrderStatsEntryDto(a.getOrderCount() + b.getOrderCount(), a.getRevenue().add(b.getRevenue()));
+    }
+
+    private record Snapshot(long totalOrders, BigDecimal totalRevenue, Map<OrderStatus, OrderStatsEntryDto> byStatus,
+                            TreeMap<String, OrderStatsEntryDto> byHour, Map<String, OrderStatsEntryDto> byDay) {
+    }
+}
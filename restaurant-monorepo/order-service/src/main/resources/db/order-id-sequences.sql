@@ -0,0 +1,17 @@
+-- Order and OrderDetail ids now come from pooled sequences (allocationSize = 50) instead of
+-- identity columns, so Hibernate can batch the inserts.
+-- Executed on every start by OrderIdSequenceMigration, in one transaction under an advisory lock;
+-- it can also be run by hand.
+-- Each sequence is only ever moved forward: past the highest existing id plus a full block of 50,
+-- unless it is already further ahead (e.g. blocks already handed out to another instance).
+
+CREATE SEQUENCE IF NOT EXISTS order_id_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS orderdetail_id_seq START WITH 1 INCREMENT BY 50;
+
+SELECT setval('order_id_seq', GREATEST(
+        (SELECT COALESCE(MAX(id), 0) + 50 FROM "Order"),
+        (SELECT CASE WHEN is_called THEN last_value + 50 ELSE last_value END FROM order_id_seq)), false);
+
+SELECT setval('orderdetail_id_seq', GREATEST(
+        (SELECT COALESCE(MAX(id), 0) + 50 FROM orderdetail),
+        (SELECT CASE WHEN is_called THEN last_value + 50 ELSE last_value END FROM orderdetail_id_seq)), false);
@@ -0,0 +1,31 @@
+package com.smartrestaurant.benchmark.identity;
+
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Order as it was mapped before the switch to pooled sequences, used as the baseline of
+ * OrderInsertBenchmark. The package lies outside com.smartrestaurant.order_service on purpose:
+ * the JPA tests scan that package for entities and would otherwise create these tables too.
+ */
+@Entity
+@Table(name = "benchmark_identity_order")
+public class IdentityOrder {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    public Long id;
+    public Long clientId;
+    public BigDecimal totalPrice;
+    public String deliveryAddress;
+    @OneToMany(mappedBy = "order", cascade = CascadeType.ALL)
+    public List<IdentityOrderDetail> orderDetails = new ArrayList<>();
+}
@@ -0,0 +1,29 @@
+package com.smartrestaurant.benchmark.identity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+import java.math.BigDecimal;
+
+/**
+ * OrderDetail as it was mapped before the switch to pooled sequences, see IdentityOrder.
+ */
+@Entity
+@Table(name = "benchmark_identity_orderdetail")
+public class IdentityOrderDetail {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    public Long id;
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "order_id", nullable = false)
+    public IdentityOrder order;
+    public Long dishId;
+    public Integer quantity;
+    public BigDecimal priceAtOrder;
+}
@@ -0,0 +1,126 @@
+package com.smartrestaurant.order_service.benchmark;
+
+import com.smartrestaurant.order_service.dto.OrderResponseDto;
+import com.smartrestaurant.order_service.entity.Order;
+import com.smartrestaurant.order_service.entity.OrderDetail;
+import com.smartrestaurant.order_service.entity.OrderStatus;
+import com.smartrestaurant.order_service.entity.OrderStatusConverter;
+import com.smartrestaurant.order_service.mapper.OrderMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the code every order read goes through: hydrating the status column,
+ * parsing a status from a request path and mapping an order to its response.
+ * The {@code legacy*} methods keep the previous implementations as the baseline.
+ * Run with {@code mvn -Pjmh test -Djmh.args="OrderHotPathBenchmark"}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderHotPathBenchmark {
+
+    private final OrderStatusConverter converter = new OrderStatusConverter();
+    private String[] dbValues;
+    private String[] pathValues;
+
+    @Setup
+    public void setUp() {
+        OrderStatus[] statuses = OrderStatus.values();
+        dbValues = new String[statuses.length];
+        pathValues = new String[statuses.length];
+        for (int i = 0; i < statuses.length; i++) {
+            // copies, as the JDBC driver hands them over, so equals() cannot stop at an identity check
+            dbValues[i] = new String(statuses[i].getValue().toCharArray());
+            pathValues[i] = new String(statuses[i].getValue().toCharArray());
+        }
+    }
+
+    @Benchmark
+    public void convertToEntityAttribute(Blackhole blackhole) {
+        for (String value : dbValues) {
+            blackhole.consume(converter.convertToEntityAttribute(value));
+        }
+    }
+
+    @Benchmark
+    public void legacyConvertToEntityAttribute(Blackhole blackhole) {
+        for (String value : dbValues) {
+            blackhole.consume(legacyConvert(value));
+        }
+    }
+
+    @Benchmark
+    public void parseStatus(Blackhole blackhole) {
+        for (String value : pathValues) {
+            blackhole.consume(OrderStatus.parse(value));
+        }
+    }
+
+    @Benchmark
+    public void legacyParseStatus(Blackhole blackhole) {
+        for (String value : pathValues) {
+            blackhole.consume(Enum.valueOf(OrderStatus.class, value.toUpperCase()));
+        }
+    }
+
+    @Benchmark
+    public OrderResponseDto toResponseDto(OrderState state) {
+        return OrderMapper.toResponseDto(state.order);
+    }
+
+    private static OrderStatus legacyConvert(String dbData) {
+        for (OrderStatus status : OrderStatus.values()) {
+            if (status.getValue().equals(dbData)) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Unknown database value: " + dbData);
+    }
+
+    @State(Scope.Thread)
+    public static class OrderState {
+        @Param({"3", "20"})
+        private int lines;
+
+        private Order order;
+
+        @Setup
+        public void setUp() {
+            order = new Order();
+            order.setId(1L);
+            order.setClientId(7L);
+            order.setStatus(OrderStatus.PLACED);
+            order.setDeliveryAddress("Str. Test Nr. 1");
+            order.setPlacementDate(ZonedDateTime.now());
+            order.setOrderDetails(new ArrayList<>());
+            for (int i = 0; i < lines; i++) {
+                OrderDetail detail = new OrderDetail();
+                detail.setDishId((long) i);
+                detail.setQuantity(2);
+                detail.setPriceAtOrder(new BigDecimal("12.50"));
+                detail.setOrder(order);
+                order.getOrderDetails().add(detail);
+            }
+            order.setTotalPrice(new BigDecimal("12.50").multiply(BigDecimal.valueOf(lines)));
+        }
+    }
+}
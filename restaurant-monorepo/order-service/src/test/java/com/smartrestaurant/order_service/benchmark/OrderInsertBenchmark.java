@@ -0,0 +1,124 @@
+package com.smartrestaurant.order_service.benchmark;
+
+import com.smartrestaurant.benchmark.identity.IdentityOrder;
+import com.smartrestaurant.benchmark.identity.IdentityOrderDetail;
+import com.smartrestaurant.order_service.entity.Order;
+import com.smartrestaurant.order_service.entity.OrderDetail;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Before/after comparison of order inserts: the old IDENTITY mapping (one statement and
+ * one round trip per row, since Hibernate needs each generated key before it can go on)
+ * against the pooled sequences used by Order and OrderDetail (rows sent in JDBC batches).
+ * One operation saves a chunk of orders in one transaction, as OrderImportService does.
+ * It runs on an in-memory H2 database, so the gap only reflects statement overhead; on
+ * PostgreSQL every saved round trip also saves a network hop.
+ * Run with {@code mvn -Pjmh test -Djmh.args="OrderInsertBenchmark"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderInsertBenchmark {
+    private static final int LINES_PER_ORDER = 3;
+
+    @Param({"500"})
+    private int chunk;
+
+    private SessionFactory sessionFactory;
+
+    @Setup
+    public void setUp() {
+        // same JDBC batching settings as application.yml
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:order-insert-benchmark;DB_CLOSE_DELAY=-1")
+                .applySetting(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .applySetting(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .applySetting(AvailableSettings.STATEMENT_BATCH_SIZE, 50)
+                .applySetting(AvailableSettings.ORDER_INSERTS, true)
+                .build();
+        sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClasses(Order.class, OrderDetail.class, IdentityOrder.class, IdentityOrderDetail.class)
+                .buildMetadata()
+                .buildSessionFactory();
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public void pooledSequence() {
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < chunk; i++) {
+                session.persist(sequenceOrder(i));
+            }
+        });
+    }
+
+    @Benchmark
+    public void identity() {
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < chunk; i++) {
+                session.persist(identityOrder(i));
+            }
+        });
+    }
+
+    private Order sequenceOrder(int i) {
+        Order order = new Order();
+        order.setClientId(1L);
+        order.setTotalPrice(new BigDecimal("30.00"));
+        order.setDeliveryAddress("Str. Benchmark Nr. " + i);
+        List<OrderDetail> details = new ArrayList<>();
+        for (int line = 0; line < LINES_PER_ORDER; line++) {
+            OrderDetail detail = new OrderDetail();
+            detail.setDishId((long) line + 1);
+            detail.setQuantity(1);
+            detail.setPriceAtOrder(new BigDecimal("10.00"));
+            details.add(detail);
+        }
+        order.setOrderDetails(details);
+        return order;
+    }
+
+    private IdentityOrder identityOrder(int i) {
+        IdentityOrder order = new IdentityOrder();
+        order.clientId = 1L;
+        order.totalPrice = new BigDecimal("30.00");
+        order.deliveryAddress = "Str. Benchmark Nr. " + i;
+        for (int line = 0; line < LINES_PER_ORDER; line++) {
+            IdentityOrderDetail detail = new IdentityOrderDetail();
+            detail.order = order;
+            detail.dishId = (long) line + 1;
+            detail.quantity = 1;
+            detail.priceAtOrder = new BigDecimal("10.00");
+            order.orderDetails.add(detail);
+        }
+        return order;
+    }
+}
@@ -0,0 +1,78 @@
+package com.smartrestaurant.order_service.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartrestaurant.order_service.entity.OutboxEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class OrderEventWebhooksTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private MockRestServiceServer server;
+    private RestClient restClient;
+    private List<OutboxEvent> events;
+
+    @BeforeEach
+    void setUp() {
+        RestClient.Builder builder = RestClient.builder();
+        server = MockRestServiceServer.bindTo(builder).build();
+        restClient = builder.build();
+        events = List.of(
+                new OutboxEvent(7L, "CREATED", 1L, "{\"type\":\"CREATED\",\"order\":{\"id\":1}}", ZonedDateTime.now(), null, null),
+                new OutboxEvent(8L, "DELETED", 2L, "{\"type\":\"DELETED\",\"order\":{\"id\":2}}", ZonedDateTime.now(), null, null));
+    }
+
+    @Test
+    void testDeliver_PostsBatchToEveryUrl() {
+        // Arrange
+        OrderEventWebhooks webhooks = new OrderEventWebhooks(
+                List.of("http://dashboard-a/events", "http://dashboard-b/events"), restClient, objectMapper);
+        for (String url : List.of("http://dashboard-a/events", "http://dashboard-b/events")) {
+            server.expect(requestTo(url))
+                    .andExpect(method(HttpMethod.POST))
+                    .andExpect(jsonPath("$.length()").value(2))
+                    .andExpect(jsonPath("$[0].id").value(7))
+                    .andExpect(jsonPath("$[0].event.order.id").value(1))
+                    .andExpect(jsonPath("$[1].type").value("DELETED"))
+                    .andRespond(withSuccess());
+        }
+
+        // Act
+        webhooks.deliver(events);
+
+        // Assert
+        server.verify();
+    }
+
+    @Test
+    void testDeliver_ErrorResponse_FailsBatch() {
+        // Arrange
+        OrderEventWebhooks webhooks = new OrderEventWebhooks(List.of("http://dashboard-a/events"), restClient, objectMapper);
+        server.expect(requestTo("http://dashboard-a/events")).andRespond(withStatus(HttpStatus.SERVICE_UNAVAILABLE));
+
+        // Act & Assert
+        assertThrows(RestClientException.class, () -> webhooks.deliver(events));
+    }
+
+    @Test
+    void testDeliver_NoUrls_DoesNothing() {
+        // Arrange
+        OrderEventWebhooks webhooks = new OrderEventWebhooks(List.of(""), restClient, objectMapper);
+
+        // Act & Assert
+        assertDoesNotThrow(() -> webhooks.deliver(events));
+        server.verify();
+    }
+}
@@ -0,0 +1,120 @@
+package com.smartrestaurant.order_service.config;
+
+import com.smartrestaurant.order_service.client.MenuServiceClient;
+import feign.Client;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import feign.Target;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FeignResilienceCapabilityTest {
+    @Mock
+    private Client delegate;
+
+    private CircuitBreakerRegistry circuitBreakers;
+    private Client client;
+    private Request request;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreakers = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slidingWindowSize(2)
+                .minimumNumberOfCalls(2)
+                .waitDurationInOpenState(Duration.ofMinutes(1))
+                .build());
+        BulkheadRegistry bulkheads = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(1)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        client = new FeignResilienceCapability(circuitBreakers, bulkheads).enrich(delegate);
+
+        RequestTemplate template = new RequestTemplate();
+        template.feignTarget(new Target.HardCodedTarget<>(MenuServiceClient.class, "menu-service", "http://menu-service"));
+        request = Request.create(Request.HttpMethod.GET, "http://menu-service/api/dishes/1",
+                Map.of(), null, StandardCharsets.UTF_8, template);
+    }
+
+    @Test
+    void testServerErrors_OpenCircuitAndFailFast() throws Exception {
+        // Arrange
+        when(delegate.execute(any(), any())).thenReturn(response(503));
+        client.execute(request, new Request.Options());
+        client.execute(request, new Request.Options());
+
+        // Act & Assert
+        assertThrows(CallNotPermittedException.class, () -> client.execute(request, new Request.Options()));
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreakers.circuitBreaker("menu-service").getState());
+        verify(delegate, times(2)).execute(any(), any());
+    }
+
+    @Test
+    void testClientErrors_DoNotOpenCircuit() throws Exception {
+        // Arrange
+        when(delegate.execute(any(), any())).thenReturn(response(404));
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            assertEquals(404, client.execute(request, new Request.Options()).status());
+        }
+
+        // Assert
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreakers.circuitBreaker("menu-service").getState());
+    }
+
+    @Test
+    void testBulkheadFull_RejectsExtraCall() throws Exception {
+        // Arrange
+        CountDownLatch inFlight = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.execute(any(), any())).thenAnswer(invocation -> {
+            inFlight.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return response(200);
+        });
+        CompletableFuture<Response> first = CompletableFuture.supplyAsync(() -> {
+            try {
+                return client.execute(request, new Request.Options());
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertTrue(inFlight.await(5, TimeUnit.SECONDS));
+
+        // Act & Assert
+        assertThrows(BulkheadFullException.class, () -> client.execute(request, new Request.Options()));
+        release.countDown();
+        assertEquals(200, first.get(5, TimeUnit.SECONDS).status());
+    }
+
+    private Response response(int status) {
+        return Response.builder()
+                .status(status)
+                .request(request)
+                .headers(Map.of())
+                .build();
+    }
+}
@@ -0,0 +1,41 @@
+package com.smartrestaurant.order_service.controller;
+
+import com.smartrestaurant.order_service.service.DishCatalog;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(value = DishCatalogController.class, properties = "internal-api.token=s3cret")
+class DishCatalogControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private DishCatalog dishCatalog;
+
+    @Test
+    void testEvictDish_WithInternalToken() throws Exception {
+        // Act & Assert
+        mockMvc.perform(delete("/internal/dish-catalog/7").header(DishCatalogController.TOKEN_HEADER, "s3cret"))
+                .andExpect(status().isNoContent());
+
+        verify(dishCatalog).evict(7L);
+    }
+
+    @Test
+    void testEvictDish_WithoutOrWithWrongToken_Forbidden() throws Exception {
+        // Act & Assert
+        mockMvc.perform(delete("/internal/dish-catalog/7"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(delete("/internal/dish-catalog").header(DishCatalogController.TOKEN_HEADER, "guess"))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(dishCatalog);
+    }
+}
@@ -1,23 +1,46 @@
 package com.smartrestaurant.order_service.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartrestaurant.order_service.config.RemoteCallTimeoutException;
 import com.smartrestaurant.order_service.dto.*;
 import com.smartrestaurant.order_service.entity.OrderStatus;
+import com.smartrestaurant.order_service.service.DuplicateIdempotencyKeyException;
+import com.smartrestaurant.order_service.service.InvalidIdempotencyKeyException;
+import com.smartrestaurant.order_service.service.OrderEventBroadcaster;
+import com.smartrestaurant.order_service.service.OrderImportService;
 import com.smartrestaurant.order_service.service.OrderServiceImpl;
+import com.smartrestaurant.order_service.service.OrderStatsProjection;
+import com.smartrestaurant.order_service.service.OrderStatsView;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import jakarta.servlet.ServletException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.function.Consumer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -34,6 +57,18 @@ class OrderControllerTest {
     @MockBean
     private OrderServiceImpl orderService;
 
+    @MockBean
+    private OrderImportService orderImportService;
+
+    @MockBean
+    private OrderEventBroadcaster orderEventBroadcaster;
+
+    @MockBean
+    private OrderStatsView orderStatsView;
+
+    @MockBean
+    private OrderStatsProjection orderStatsProjection;
+
     private OrderRequestDto orderRequestDto;
     private OrderResponseDto orderResponseDto;
     private OrderDetailResponseDto orderDetailResponseDto;
@@ -85,6 +120,92 @@ class OrderControllerTest {
         verify(orderService, times(1)).createOrder(any(OrderRequestDto.class));
     }
 
+    @Test
+    void testCreateOrder_DependencyRejectedCall_ServiceUnavailable() throws Exception {
+        // Arrange
+        when(orderService.createOrder(any(OrderRequestDto.class)))
+                .thenThrow(BulkheadFullException.createBulkheadFullException(Bulkhead.ofDefaults("user-service")));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(orderRequestDto)))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    void testCreateOrder_WithIdempotencyKey() throws Exception {
+        // Arrange
+        when(orderService.createOrder(any(OrderRequestDto.class), eq("key-1")))
+                .thenReturn(orderResponseDto);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/orders")
+                        .header("Idempotency-Key", "key-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(orderRequestDto)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(1));
+
+        verify(orderService, never()).createOrder(any(OrderRequestDto.class));
+    }
+
+    @Test
+    void testCreateOrder_IdempotencyKeyReusedForOtherOrder() throws Exception {
+        // Arrange
+        when(orderService.createOrder(any(OrderRequestDto.class), eq("key-1")))
+                .thenThrow(new IllegalArgumentException("Idempotency-Key key-1 was already used for a different order"));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/orders")
+                        .header("Idempotency-Key", "key-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(orderRequestDto)))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+    @Test
+    void testCreateOrder_ConcurrentRequestWithSameKey() throws Exception {
+        // Arrange
+        when(orderService.createOrder(any(OrderRequestDto.class), eq("key-1")))
+                .thenThrow(new DuplicateIdempotencyKeyException("Idempotency-Key key-1 was stored by a concurrent request",
+                        new DataIntegrityViolationException("duplicate key")));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/orders")
+                        .header("Idempotency-Key", "key-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(orderRequestDto)))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void testCreateOrder_MalformedIdempotencyKey_BadRequest() throws Exception {
+        // Arrange
+        when(orderService.createOrder(any(OrderRequestDto.class), eq(" ")))
+                .thenThrow(new InvalidIdempotencyKeyException("Idempotency-Key must have between 1 and 100 characters"));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/orders")
+                        .header("Idempotency-Key", " ")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(orderRequestDto)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testCreateOrder_OtherIntegrityViolation_IsNotAConflict() {
+        // Arrange
+        when(orderService.createOrder(any(OrderRequestDto.class), eq("key-1")))
+                .thenThrow(new DataIntegrityViolationException("value too long for delivery_address"));
+
+        // Act & Assert
+        assertThrows(ServletException.class, () -> mockMvc.perform(post("/api/orders")
+                .header("Idempotency-Key", "key-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(orderRequestDto))));
+    }
+
     @Test
     void testGetOrderById_Success() throws Exception {
         when(orderService.getOrderById(1L)).thenReturn(orderResponseDto);
@@ -119,6 +240,54 @@ class OrderControllerTest {
         verify(orderService, times(1)).getAllOrders();
     }
 
+    @Test
+    void testGetOrdersPage_Success() throws Exception {
+        when(orderService.getOrdersPage(5L, 1))
+                .thenReturn(new OrderPageResponseDto(List.of(orderResponseDto), 1L));
+
+        mockMvc.perform(get("/api/orders/page")
+                        .param("after", "5")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(1))
+                .andExpect(jsonPath("$.nextCursor").value(1));
+    }
+
+    @Test
+    void testGetOrdersPage_InvalidSize() throws Exception {
+        when(orderService.getOrdersPage(null, 0))
+                .thenThrow(new IllegalArgumentException("Page size must be at least 1"));
+
+        mockMvc.perform(get("/api/orders/page").param("size", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testStreamAllOrders_WritesOneJsonObjectPerLine() throws Exception {
+        OrderResponseDto second = new OrderResponseDto();
+        second.setId(2L);
+        doAnswer(invocation -> {
+            Consumer<OrderResponseDto> consumer = invocation.getArgument(0);
+            consumer.accept(orderResponseDto);
+            consumer.accept(second);
+            return null;
+        }).when(orderService).streamAllOrders(any());
+
+        MvcResult result = mockMvc.perform(get("/api/orders/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(1L, objectMapper.readValue(lines[0], OrderResponseDto.class).getId());
+        assertEquals(2L, objectMapper.readValue(lines[1], OrderResponseDto.class).getId());
+    }
+
     @Test
     void testUpdateOrder_Success() throws Exception {
         when(orderService.updateOrder(eq(1L), any(OrderRequestDto.class)))
@@ -166,6 +335,104 @@ class OrderControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    void testChangeStatus_Success() throws Exception {
+        orderResponseDto.setStatus(OrderStatus.IN_PROGRESS);
+        when(orderService.changeStatus(1L, OrderStatus.IN_PROGRESS)).thenReturn(orderResponseDto);
+
+        mockMvc.perform(patch("/api/orders/1/status/in_progress"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("IN_PROGRESS"));
+    }
+
+    @Test
+    void testChangeStatus_NotAllowed() throws Exception {
+        when(orderService.changeStatus(1L, OrderStatus.PLACED))
+                .thenThrow(new IllegalStateException("Cannot change status to PLACED"));
+
+        mockMvc.perform(patch("/api/orders/1/status/placed"))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void testChangeStatus_ChangedConcurrently() throws Exception {
+        when(orderService.changeStatus(1L, OrderStatus.CANCELED))
+                .thenThrow(new OptimisticLockingFailureException("Order 1 was changed concurrently"));
+
+        mockMvc.perform(patch("/api/orders/1/status/canceled"))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void testChangeStatus_UnknownStatus() throws Exception {
+        mockMvc.perform(patch("/api/orders/1/status/eaten"))
+                .andExpect(status().isBadRequest());
+
+        verify(orderService, never()).changeStatus(anyLong(), any());
+    }
+
+    @Test
+    void testStreamOrderEvents_SubscribesWithStatusFilter() throws Exception {
+        when(orderEventBroadcaster.subscribe(any())).thenReturn(new SseEmitter());
+
+        mockMvc.perform(get("/api/orders/events")
+                        .param("status", "placed", "ready_for_preparation")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted());
+
+        verify(orderEventBroadcaster).subscribe(EnumSet.of(OrderStatus.PLACED, OrderStatus.READY_FOR_PREPARATION));
+    }
+
+    @Test
+    void testStreamOrderEvents_UnknownStatus() throws Exception {
+        mockMvc.perform(get("/api/orders/events").param("status", "eaten"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(orderEventBroadcaster);
+    }
+
+    @Test
+    void testGetStats_Success() throws Exception {
+        OrderStatsEntryDto placed = new OrderStatsEntryDto(2, new BigDecimal("30.00"));
+        when(orderStatsView.getStats()).thenReturn(new OrderStatsDto(2, new BigDecimal("30.00"),
+                Map.of(OrderStatus.PLACED, placed), Map.of("2026-01-11", placed)));
+
+        mockMvc.perform(get("/api/orders/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalOrders").value(2))
+                .andExpect(jsonPath("$.byStatus.PLACED.revenue").value(30.00))
+                .andExpect(jsonPath("$['byDay']['2026-01-11'].orderCount").value(2));
+    }
+
+    @Test
+    void testGetHourlyStats_Success() throws Exception {
+        when(orderStatsView.getHourly(LocalDate.of(2026, 1, 11)))
+                .thenReturn(Map.of("2026-01-11T12", new OrderStatsEntryDto(1, new BigDecimal("20.00"))));
+
+        mockMvc.perform(get("/api/orders/stats/hourly").param("date", "2026-01-11"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$['2026-01-11T12'].orderCount").value(1));
+    }
+
+    @Test
+    void testGetHourlyStats_InvalidDate() throws Exception {
+        mockMvc.perform(get("/api/orders/stats/hourly").param("date", "11.01.2026"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(orderStatsView);
+    }
+
+    @Test
+    void testRebuildStats_RefreshesView() throws Exception {
+        when(orderStatsView.getStats()).thenReturn(new OrderStatsDto(0, BigDecimal.ZERO, Map.of(), Map.of()));
+
+        mockMvc.perform(post("/api/orders/stats/rebuild"))
+                .andExpect(status().isOk());
+
+        verify(orderStatsProjection).rebuild();
+        verify(orderStatsView).refresh();
+    }
+
     @Test
     void testDeleteOrder_Success() throws Exception {
         when(orderService.deleteOrder(1L)).thenReturn(orderResponseDto);
@@ -199,7 +466,7 @@ class OrderControllerTest {
     @Test
     void testGetLargeOrders_Success() throws Exception {
         List<OrderResponseDto> orders = Arrays.asList(orderResponseDto);
-        when(orderService.getLargeOrdersSortedByTotal(any(BigDecimal.class)))
+        when(orderService.getLargeOrdersSortedByTotal(any(BigDecimal.class), eq(0), eq(100)))
                 .thenReturn(orders);
 
         mockMvc.perform(get("/api/orders/large_orders")
@@ -208,7 +475,30 @@ class OrderControllerTest {
                 .andExpect(jsonPath("$[0].totalPrice").value(20.00));
 
         verify(orderService, times(1))
-                .getLargeOrdersSortedByTotal(any(BigDecimal.class));
+                .getLargeOrdersSortedByTotal(any(BigDecimal.class), eq(0), eq(100));
+    }
+
+    @Test
+    void testGetLargeOrders_LimitReturnsTopOrders() throws Exception {
+        when(orderService.getLargeOrdersSortedByTotal(any(BigDecimal.class), eq(0), eq(5)))
+                .thenReturn(Arrays.asList(orderResponseDto));
+
+        mockMvc.perform(get("/api/orders/large_orders")
+                        .param("limit", "5")
+                        .param("page", "3"))
+                .andExpect(status().isOk());
+
+        verify(orderService).getLargeOrdersSortedByTotal(any(BigDecimal.class), eq(0), eq(5));
+    }
+
+    @Test
+    void testGetLargeOrders_InvalidSize() throws Exception {
+        when(orderService.getLargeOrdersSortedByTotal(any(BigDecimal.class), eq(0), eq(0)))
+                .thenThrow(new IllegalArgumentException("Page size must not be less than one"));
+
+        mockMvc.perform(get("/api/orders/large_orders")
+                        .param("size", "0"))
+                .andExpect(status().isBadRequest());
     }
 
     @Test
@@ -231,31 +521,122 @@ class OrderControllerTest {
         verify(orderService, times(1)).getOrderDetails(1L);
     }
 
+    @Test
+    void testGetOrderDetails_RemoteLookupTimedOut() throws Exception {
+        when(orderService.getOrderDetails(1L))
+                .thenThrow(new RemoteCallTimeoutException("Remote call did not finish within PT2S", null));
+
+        mockMvc.perform(get("/api/orders/1/details"))
+                .andExpect(status().isGatewayTimeout());
+    }
+
+    @Test
+    void testGetOrderDetails_OtherFailureIsNotATimeout() {
+        when(orderService.getOrderDetails(1L))
+                .thenThrow(new IllegalStateException("Interrupted while waiting for a remote call"));
+
+        ServletException thrown = assertThrows(ServletException.class,
+                () -> mockMvc.perform(get("/api/orders/1/details")));
+        assertInstanceOf(IllegalStateException.class, thrown.getCause());
+    }
+
     @Test
     void testSearchOrdersByClient_Success() throws Exception {
         List<OrderResponseDto> orders = Arrays.asList(orderResponseDto);
-        when(orderService.getOrdersByClientName("Test User")).thenReturn(orders);
+        when(orderService.getOrdersByClientName("Test User", 0, 100)).thenReturn(orders);
 
         mockMvc.perform(get("/api/orders/search/client")
                         .param("name", "Test User"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].clientId").value(1));
 
-        verify(orderService, times(1)).getOrdersByClientName("Test User");
+        verify(orderService, times(1)).getOrdersByClientName("Test User", 0, 100);
+    }
+
+    @Test
+    void testSearchOrdersByClient_Paged() throws Exception {
+        when(orderService.getOrdersByClientName("Test User", 2, 10)).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/orders/search/client")
+                        .param("name", "Test User")
+                        .param("page", "2")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isEmpty());
+    }
+
+    @Test
+    void testSearchOrdersByClient_InvalidPageSize() throws Exception {
+        when(orderService.getOrdersByClientName("Test User", 0, 0))
+                .thenThrow(new IllegalArgumentException("Page size must not be less than one"));
+
+        mockMvc.perform(get("/api/orders/search/client")
+                        .param("name", "Test User")
+                        .param("size", "0"))
+                .andExpect(status().isBadRequest());
     }
 
     @Test
     void testSearchOrdersByDish_Success() throws Exception {
         List<OrderResponseDto> orders = Arrays.asList(orderResponseDto);
-        when(orderService.getOrdersByDishName("Pizza")).thenReturn(orders);
+        when(orderService.getOrdersByDishName("Pizza", 0, 100)).thenReturn(orders);
 
         mockMvc.perform(get("/api/orders/search/dish")
                         .param("name", "Pizza"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].id").value(1));
 
-        verify(orderService, times(1)).getOrdersByDishName("Pizza");
+        verify(orderService, times(1)).getOrdersByDishName("Pizza", 0, 100);
+    }
+
+    @Test
+    void testSearchOrdersByDish_InvalidPage() throws Exception {
+        when(orderService.getOrdersByDishName("Pizza", -1, 100))
+                .thenThrow(new IllegalArgumentException("Page index must not be less than zero"));
+
+        mockMvc.perform(get("/api/orders/search/dish")
+                        .param("name", "Pizza")
+                        .param("page", "-1"))
+                .andExpect(status().isBadRequest());
     }
 
 
-}
\ No newline at end of file
+
+    @Test
+    void testImportOrders_JsonArray() throws Exception {
+        List<OrderRequestDto> received = new ArrayList<>();
+        when(orderImportService.importOrders(any())).thenAnswer(invocation -> {
+            Iterator<OrderRequestDto> requests = invocation.getArgument(0);
+            requests.forEachRemaining(received::add);
+            return List.of(new OrderImportResultDto(0, 10L, null), new OrderImportResultDto(1, 11L, null));
+        });
+
+        mockMvc.perform(post("/api/orders/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(orderRequestDto, orderRequestDto))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[1].orderId").value(11));
+
+        assertEquals(2, received.size());
+        assertEquals(1L, received.get(0).getClientId());
+    }
+
+    @Test
+    void testImportOrders_Ndjson() throws Exception {
+        List<OrderRequestDto> received = new ArrayList<>();
+        when(orderImportService.importOrders(any())).thenAnswer(invocation -> {
+            Iterator<OrderRequestDto> requests = invocation.getArgument(0);
+            requests.forEachRemaining(received::add);
+            return List.of();
+        });
+        String line = objectMapper.writeValueAsString(orderRequestDto);
+
+        mockMvc.perform(post("/api/orders/bulk")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(line + "\n" + line + "\n" + line + "\n"))
+                .andExpect(status().isOk());
+
+        assertEquals(3, received.size());
+        assertEquals("Str. Test Nr. 1", received.get(2).getDeliveryAddress());
+    }
+}
@@ -0,0 +1,36 @@
+package com.smartrestaurant.order_service.entity;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderStatusConverterTest {
+    private final OrderStatusConverter converter = new OrderStatusConverter();
+
+    @Test
+    void testConvert_RoundTripsEveryStatus() {
+        for (OrderStatus status : OrderStatus.values()) {
+            // Act
+            String dbValue = converter.convertToDatabaseColumn(status);
+
+            // Assert
+            assertEquals(status, converter.convertToEntityAttribute(new String(dbValue.toCharArray())));
+        }
+    }
+
+    @Test
+    void testConvertToEntityAttribute_UnknownValue() {
+        // Act & Assert
+        assertNull(converter.convertToEntityAttribute(null));
+        assertThrows(IllegalArgumentException.class, () -> converter.convertToEntityAttribute("PLACED"));
+    }
+
+    @Test
+    void testParse_IgnoresCase() {
+        // Act & Assert
+        assertEquals(OrderStatus.PLACED, OrderStatus.parse("placed"));
+        assertEquals(OrderStatus.READY_FOR_PREPARATION, OrderStatus.parse("READY_FOR_PREPARATION"));
+        assertEquals(OrderStatus.IN_PROGRESS, OrderStatus.parse("In_Progress"));
+        assertThrows(IllegalArgumentException.class, () -> OrderStatus.parse("eaten"));
+    }
+}
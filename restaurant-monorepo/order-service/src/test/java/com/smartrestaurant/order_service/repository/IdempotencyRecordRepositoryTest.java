@@ -0,0 +1,82 @@
+package com.smartrestaurant.order_service.repository;
+
+import com.smartrestaurant.order_service.entity.IdempotencyRecord;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.ZonedDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+class IdempotencyRecordRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private IdempotencyRecordRepository repository;
+
+    @Test
+    void testSave_DuplicateKey_IsRejectedInsteadOfOverwritten() {
+        // Arrange
+        repository.saveAndFlush(new IdempotencyRecord("key-1", "hash-1", 1L, "{\"id\":1}"));
+        entityManager.clear();
+
+        // Act & Assert
+        assertThatThrownBy(() -> repository.saveAndFlush(new IdempotencyRecord("key-1", "hash-2", 2L, "{\"id\":2}")))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void testFindById_LoadedRecordIsNotNew() {
+        // Arrange
+        repository.saveAndFlush(new IdempotencyRecord("key-1", "hash-1", 1L, "{\"id\":1}"));
+        entityManager.clear();
+
+        // Act
+        IdempotencyRecord found = repository.findById("key-1").orElseThrow();
+
+        // Assert
+        assertThat(found.getOrderId()).isEqualTo(1L);
+        assertThat(found.getCreatedAt()).isNotNull();
+        assertThat(found.isNew()).isFalse();
+    }
+
+    @Test
+    void testDeleteCreatedBefore_RemovesOnlyExpiredKeys() {
+        // Arrange
+        repository.saveAndFlush(new IdempotencyRecord("old", "hash-1", 1L, "{\"id\":1}"));
+        repository.saveAndFlush(new IdempotencyRecord("recent", "hash-2", 2L, "{\"id\":2}"));
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE idempotency_key SET created_at = :createdAt WHERE idempotency_key = 'old'")
+                .setParameter("createdAt", ZonedDateTime.now().minusDays(2))
+                .executeUpdate();
+        entityManager.clear();
+
+        // Act
+        int deleted = repository.deleteCreatedBefore(ZonedDateTime.now().minusDays(1));
+
+        // Assert
+        assertThat(deleted).isEqualTo(1);
+        assertThat(repository.findAll()).extracting(IdempotencyRecord::getKey).containsExactly("recent");
+    }
+
+    @Test
+    void testDeleteByKeyCreatedBefore_KeepsRecentKey() {
+        // Arrange
+        repository.saveAndFlush(new IdempotencyRecord("key-1", "hash-1", 1L, "{\"id\":1}"));
+        entityManager.clear();
+
+        // Act
+        int deleted = repository.deleteByKeyCreatedBefore("key-1", ZonedDateTime.now().minusDays(1));
+
+        // Assert
+        assertThat(deleted).isZero();
+        assertThat(repository.findById("key-1")).isPresent();
+    }
+}
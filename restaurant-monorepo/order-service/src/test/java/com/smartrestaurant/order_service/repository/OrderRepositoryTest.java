@@ -1,22 +1,32 @@
 package com.smartrestaurant.order_service.repository;
 
+import com.smartrestaurant.order_service.dto.OrderResponseDto;
 import com.smartrestaurant.order_service.entity.Order;
 import com.smartrestaurant.order_service.entity.OrderDetail;
 import com.smartrestaurant.order_service.entity.OrderStatus;
+import com.smartrestaurant.order_service.mapper.OrderMapper;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 class OrderRepositoryTest {
 
     @Autowired
@@ -122,7 +132,7 @@ class OrderRepositoryTest {
     void testFindByTotalPriceGreaterThan_OneLargeOrder() {
         // Act
         List<Order> largeOrders = orderRepository.findByTotalPriceGreaterThan(
-                new BigDecimal("100.00")
+                new BigDecimal("100.00"), PageRequest.of(0, 10)
         );
 
         // Assert
@@ -136,7 +146,7 @@ class OrderRepositoryTest {
     void testFindByTotalPriceGreaterThan_MultipleOrders() {
         // Act
         List<Order> ordersAbove25 = orderRepository.findByTotalPriceGreaterThan(
-                new BigDecimal("25.00")
+                new BigDecimal("25.00"), PageRequest.of(0, 10)
         );
 
         // Assert
@@ -147,6 +157,23 @@ class OrderRepositoryTest {
     }
 
 
+    @Test
+    void testUpdateStatus_StaleVersion_UpdatesNothing() {
+        // Arrange
+        Long version = order1.getVersion();
+
+        // Act
+        int first = orderRepository.updateStatus(order1.getId(), version, OrderStatus.READY_FOR_PREPARATION);
+        int second = orderRepository.updateStatus(order1.getId(), version, OrderStatus.CANCELED);
+
+        // Assert
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+        Order found = orderRepository.findById(order1.getId()).orElseThrow();
+        assertThat(found.getStatus()).isEqualTo(OrderStatus.READY_FOR_PREPARATION);
+        assertThat(found.getVersion()).isEqualTo(version + 1);
+    }
+
     @Test
     void testSaveOrder_WithDetails() {
         // Arrange
@@ -208,6 +235,173 @@ class OrderRepositoryTest {
         // OrderDetails should also be deleted due to cascade
     }
 
+    @Test
+    void testFindByClientIdIn_FiltersAndPagesNewestFirst() {
+        // Act
+        List<Order> firstPage = orderRepository.findByClientIdIn(
+                Set.of(1L, 3L), PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "id"))
+        );
+        List<Order> secondPage = orderRepository.findByClientIdIn(
+                Set.of(1L, 3L), PageRequest.of(1, 1, Sort.by(Sort.Direction.DESC, "id"))
+        );
+
+        // Assert
+        assertThat(firstPage).extracting(Order::getId).containsExactly(order3.getId());
+        assertThat(secondPage).extracting(Order::getId).containsExactly(order1.getId());
+    }
+
+    @Test
+    void testFindByTotalPriceGreaterThan_PagedHighestTotalFirst() {
+        // Arrange
+        Sort byTotalDesc = Sort.by(Sort.Direction.DESC, "totalPrice");
+
+        // Act
+        List<Order> firstPage = orderRepository.findByTotalPriceGreaterThan(
+                new BigDecimal("25.00"), PageRequest.of(0, 1, byTotalDesc)
+        );
+        List<Order> secondPage = orderRepository.findByTotalPriceGreaterThan(
+                new BigDecimal("25.00"), PageRequest.of(1, 1, byTotalDesc)
+        );
+
+        // Assert
+        assertThat(firstPage).extracting(Order::getId).containsExactly(order2.getId());
+        assertThat(secondPage).extracting(Order::getId).containsExactly(order1.getId());
+    }
+
+    @Test
+    void testFindContainingAnyDish_ReturnsEachMatchingOrderOnce() {
+        // Arrange
+        OrderDetail secondLine = new OrderDetail();
+        secondLine.setDishId(3L);
+        secondLine.setQuantity(1);
+        secondLine.setPriceAtOrder(new BigDecimal("15.00"));
+        secondLine.setOrder(order1);
+        order1.getOrderDetails().add(secondLine);
+        entityManager.persist(secondLine);
+        entityManager.flush();
+
+        // Act
+        List<Order> orders = orderRepository.findContainingAnyDish(
+                Set.of(1L, 3L), PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "id"))
+        );
+
+        // Assert
+        assertThat(orders).extracting(Order::getId).containsExactly(order3.getId(), order1.getId());
+    }
+
+    @Test
+    void testListQueries_LoadDetailsWithoutExtraStatementPerOrder() {
+        // Arrange
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+
+        // Act & Assert
+        assertThat(countStatementsWhileMapping(statistics, () -> orderRepository.findAllWithDetails())).isEqualTo(1);
+        assertThat(countStatementsWhileMapping(statistics, () -> orderRepository.findByStatus(OrderStatus.PLACED))).isEqualTo(1);
+        assertThat(countStatementsWhileMapping(statistics, () -> orderRepository.findByTotalPriceGreaterThan(
+                BigDecimal.ZERO, PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "totalPrice"))))).isEqualTo(2);
+        assertThat(countStatementsWhileMapping(statistics, () -> orderRepository.findByClientIdIn(
+                Set.of(1L, 2L), PageRequest.of(0, 10, Sort.by("id"))))).isEqualTo(2);
+        assertThat(countStatementsWhileMapping(statistics, () -> orderRepository.findContainingAnyDish(
+                Set.of(1L, 2L, 3L), PageRequest.of(0, 10, Sort.by("id"))))).isEqualTo(2);
+    }
+
+    @Test
+    void testSaveAll_InsertsInJdbcBatches() {
+        // Arrange
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            Order order = new Order();
+            order.setClientId(5L);
+            order.setTotalPrice(new BigDecimal("10.00"));
+            order.setDeliveryAddress("Str. Batch Nr. " + i);
+            OrderDetail detail = new OrderDetail();
+            detail.setDishId(1L);
+            detail.setQuantity(1);
+            detail.setPriceAtOrder(new BigDecimal("10.00"));
+            order.setOrderDetails(new ArrayList<>(List.of(detail)));
+            orders.add(order);
+        }
+        entityManager.clear();
+        statistics.clear();
+
+        // Act
+        orderRepository.saveAll(orders);
+        entityManager.flush();
+
+        // Assert
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(240);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(20);
+    }
+
+    @Test
+    void testSave_OrderWithManyLines_InsertsLinesInOneBatch() {
+        // Arrange
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        Order order = new Order();
+        order.setClientId(5L);
+        order.setTotalPrice(new BigDecimal("100.00"));
+        order.setDeliveryAddress("Str. Batch Nr. 1");
+        List<OrderDetail> details = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            OrderDetail detail = new OrderDetail();
+            detail.setDishId((long) i + 1);
+            detail.setQuantity(1);
+            detail.setPriceAtOrder(new BigDecimal("10.00"));
+            details.add(detail);
+        }
+        order.setOrderDetails(details);
+        entityManager.clear();
+        statistics.clear();
+
+        // Act
+        orderRepository.save(order);
+        entityManager.flush();
+
+        // Assert: one insert for the order, one batched insert for the lines, at most one call per sequence
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(11);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(4);
+    }
+
+    private long countStatementsWhileMapping(Statistics statistics, Supplier<List<Order>> query) {
+        entityManager.clear();
+        statistics.clear();
+
+        List<OrderResponseDto> mapped = query.get().stream()
+                .map(OrderMapper::toResponseDto)
+                .toList();
+
+        assertThat(mapped).isNotEmpty().allSatisfy(dto -> assertThat(dto.getItems()).isNotEmpty());
+        return statistics.getPrepareStatementCount();
+    }
+
+    @Test
+    void testFindIdsAfter_ReturnsNextIdsInOrder() {
+        // Act
+        List<Long> firstPage = orderRepository.findIdsAfter(0L, Limit.of(2));
+        List<Long> secondPage = orderRepository.findIdsAfter(firstPage.get(1), Limit.of(2));
+
+        // Assert
+        assertThat(firstPage).containsExactly(order1.getId(), order2.getId());
+        assertThat(secondPage).containsExactly(order3.getId());
+    }
+
+    @Test
+    void testFindAllWithDetailsByIdIn_LoadsDetails() {
+        // Arrange
+        entityManager.clear();
+
+        // Act
+        List<Order> orders = orderRepository.findAllWithDetailsByIdIn(List.of(order2.getId(), order1.getId()));
+
+        // Assert
+        assertThat(orders).extracting(Order::getId).containsExactly(order1.getId(), order2.getId());
+        assertThat(orders).allSatisfy(order -> assertThat(Hibernate.isInitialized(order.getOrderDetails())).isTrue());
+    }
+
     @Test
     void testFindAll_ReturnsAllOrders() {
         // Act
@@ -0,0 +1,98 @@
+package com.smartrestaurant.order_service.repository;
+
+import com.smartrestaurant.order_service.entity.OutboxEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class OutboxEventRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private OutboxEventRepository repository;
+
+    @Test
+    void testFindClaimable_ReturnsOldestPendingFirst() {
+        // Arrange
+        OutboxEvent published = repository.save(new OutboxEvent("CREATED", 1L, "{}"));
+        published.setPublishedAt(ZonedDateTime.now());
+        OutboxEvent second = repository.save(new OutboxEvent("STATUS_CHANGED", 1L, "{}"));
+        OutboxEvent third = repository.save(new OutboxEvent("CREATED", 2L, "{}"));
+        repository.save(new OutboxEvent("DELETED", 2L, "{}"));
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        List<OutboxEvent> pending = repository.findClaimable(ZonedDateTime.now(), Limit.of(2));
+
+        // Assert
+        assertThat(pending).extracting(OutboxEvent::getId).containsExactly(second.getId(), third.getId());
+    }
+
+    @Test
+    void testFindClaimable_SkipsEventsClaimedByAnotherRelay() {
+        // Arrange
+        OutboxEvent claimed = repository.save(new OutboxEvent("CREATED", 1L, "{}"));
+        claimed.setClaimedUntil(ZonedDateTime.now().plusMinutes(2));
+        OutboxEvent expired = repository.save(new OutboxEvent("CREATED", 2L, "{}"));
+        expired.setClaimedUntil(ZonedDateTime.now().minusSeconds(1));
+        OutboxEvent free = repository.save(new OutboxEvent("CREATED", 3L, "{}"));
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        List<OutboxEvent> pending = repository.findClaimable(ZonedDateTime.now(), Limit.of(10));
+
+        // Assert
+        assertThat(pending).extracting(OutboxEvent::getId).containsExactly(expired.getId(), free.getId());
+    }
+
+    @Test
+    void testMarkPublished_SkipsEventsAlreadyPublished() {
+        // Arrange
+        OutboxEvent published = repository.save(new OutboxEvent("CREATED", 1L, "{}"));
+        published.setPublishedAt(ZonedDateTime.now().minusMinutes(1));
+        OutboxEvent claimed = repository.save(new OutboxEvent("CREATED", 2L, "{}"));
+        claimed.setClaimedUntil(ZonedDateTime.now().plusMinutes(2));
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        int marked = repository.markPublished(List.of(published.getId(), claimed.getId()), ZonedDateTime.now());
+
+        // Assert
+        assertThat(marked).isEqualTo(1);
+        OutboxEvent reloaded = repository.findById(claimed.getId()).orElseThrow();
+        assertThat(reloaded.getPublishedAt()).isNotNull();
+        assertThat(reloaded.getClaimedUntil()).isNull();
+    }
+
+    @Test
+    void testDeletePublishedBefore_KeepsPendingAndRecentEvents() {
+        // Arrange
+        OutboxEvent old = repository.save(new OutboxEvent("CREATED", 1L, "{}"));
+        old.setPublishedAt(ZonedDateTime.now().minusDays(8));
+        OutboxEvent recent = repository.save(new OutboxEvent("CREATED", 2L, "{}"));
+        recent.setPublishedAt(ZonedDateTime.now());
+        OutboxEvent pending = repository.save(new OutboxEvent("CREATED", 3L, "{}"));
+        entityManager.flush();
+
+        // Act
+        int deleted = repository.deletePublishedBefore(ZonedDateTime.now().minusDays(7));
+
+        // Assert
+        assertThat(deleted).isEqualTo(1);
+        assertThat(repository.findAll()).extracting(OutboxEvent::getId)
+                .containsExactlyInAnyOrder(recent.getId(), pending.getId());
+    }
+}
@@ -0,0 +1,96 @@
+package com.smartrestaurant.order_service.service;
+
+import com.smartrestaurant.order_service.client.UserServiceClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ClientRegistryTest {
+    @Mock
+    private UserServiceClient userServiceClient;
+
+    private ClientRegistry clientRegistry;
+
+    @BeforeEach
+    void setUp() {
+        clientRegistry = new ClientRegistry(userServiceClient, 2);
+    }
+
+    @Test
+    void testRefreshNewClients_PagesThroughAllNewIds() {
+        // Arrange
+        when(userServiceClient.getUserIdsAfter(0L, 2)).thenReturn(List.of(1L, 2L));
+        when(userServiceClient.getUserIdsAfter(2L, 2)).thenReturn(List.of(5L));
+
+        // Act
+        clientRegistry.refreshNewClients();
+
+        // Assert
+        assertTrue(clientRegistry.contains(1L));
+        assertTrue(clientRegistry.contains(5L));
+        assertFalse(clientRegistry.contains(3L));
+    }
+
+    @Test
+    void testRefreshNewClients_ContinuesAfterHighestKnownId() {
+        // Arrange
+        when(userServiceClient.getUserIdsAfter(0L, 2)).thenReturn(List.of(1L));
+        when(userServiceClient.getUserIdsAfter(1L, 2)).thenReturn(List.of(7L));
+        clientRegistry.refreshNewClients();
+
+        // Act
+        clientRegistry.refreshNewClients();
+
+        // Assert
+        assertTrue(clientRegistry.contains(1L));
+        assertTrue(clientRegistry.contains(7L));
+    }
+
+    @Test
+    void testRebuild_DropsDeletedClients() {
+        // Arrange
+        when(userServiceClient.getUserIdsAfter(0L, 2))
+                .thenReturn(List.of(1L))
+                .thenReturn(List.of(3L));
+        clientRegistry.refreshNewClients();
+        clientRegistry.register(2L);
+
+        // Act
+        clientRegistry.rebuild();
+
+        // Assert
+        assertFalse(clientRegistry.contains(1L));
+        assertFalse(clientRegistry.contains(2L));
+        assertTrue(clientRegistry.contains(3L));
+    }
+
+    @Test
+    void testRefreshNewClients_UserServiceDown_KeepsKnownIds() {
+        // Arrange
+        clientRegistry.register(4L);
+        when(userServiceClient.getUserIdsAfter(anyLong(), anyInt())).thenThrow(new IllegalStateException("user-service unavailable"));
+
+        // Act
+        clientRegistry.refreshNewClients();
+
+        // Assert
+        assertTrue(clientRegistry.contains(4L));
+    }
+
+    @Test
+    void testContains_UnknownOrInvalidId() {
+        assertFalse(clientRegistry.contains(null));
+        assertFalse(clientRegistry.contains(-1L));
+        assertFalse(clientRegistry.contains(42L));
+    }
+}
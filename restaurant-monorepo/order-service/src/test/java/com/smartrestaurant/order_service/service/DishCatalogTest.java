@@ -0,0 +1,165 @@
+package com.smartrestaurant.order_service.service;
+
+import com.smartrestaurant.order_service.client.MenuServiceClient;
+import com.smartrestaurant.order_service.dto.DishResponseDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DishCatalogTest {
+    @Mock
+    private MenuServiceClient menuServiceClient;
+
+    private SimpleMeterRegistry meterRegistry;
+    private DishCatalog dishCatalog;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        dishCatalog = new DishCatalog(menuServiceClient, meterRegistry, 100, Duration.ofMinutes(10), Duration.ofHours(24));
+    }
+
+    @Test
+    void testGetDishes_LoadsMissesInOneBatchThenServesFromCache() {
+        // Arrange
+        when(menuServiceClient.getDishesByIds(anyList())).thenReturn(List.of(dish(1, "Pizza"), dish(2, "Soup")));
+
+        // Act
+        Map<Long, DishResponseDto> first = dishCatalog.getDishes(Set.of(1L, 2L));
+        Map<Long, DishResponseDto> second = dishCatalog.getDishes(Set.of(1L, 2L));
+
+        // Assert
+        assertEquals(2, first.size());
+        assertEquals("Soup", second.get(2L).getName());
+        verify(menuServiceClient, times(1)).getDishesByIds(anyList());
+        assertEquals(2.0, meterRegistry.get("cache.gets").tag("cache", "dishCatalog").tag("result", "hit").functionCounter().count());
+        assertEquals(2.0, meterRegistry.get("cache.gets").tag("cache", "dishCatalog").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void testGetDishes_OnlyRequestsUncachedIds() {
+        // Arrange
+        when(menuServiceClient.getDishesByIds(List.of(1L))).thenReturn(List.of(dish(1, "Pizza")));
+        when(menuServiceClient.getDishesByIds(List.of(2L))).thenReturn(List.of(dish(2, "Soup")));
+        dishCatalog.getDishes(Set.of(1L));
+
+        // Act
+        Map<Long, DishResponseDto> result = dishCatalog.getDishes(Set.of(1L, 2L));
+
+        // Assert
+        assertEquals(2, result.size());
+        verify(menuServiceClient).getDishesByIds(List.of(2L));
+    }
+
+    @Test
+    void testEvict_ForcesReload() {
+        // Arrange
+        when(menuServiceClient.getDishesByIds(List.of(1L)))
+                .thenReturn(List.of(dish(1, "Pizza")))
+                .thenReturn(List.of(dish(1, "Pizza Margherita")));
+        dishCatalog.getDish(1L);
+
+        // Act
+        dishCatalog.evict(1L);
+        DishResponseDto reloaded = dishCatalog.getDish(1L);
+
+        // Assert
+        assertEquals("Pizza Margherita", reloaded.getName());
+        verify(menuServiceClient, times(2)).getDishesByIds(List.of(1L));
+    }
+
+    @Test
+    void testEvict_DuringLoad_DoesNotKeepLoadedDish() {
+        // Arrange
+        when(menuServiceClient.getDishesByIds(List.of(1L)))
+                .thenAnswer(invocation -> {
+                    dishCatalog.evict(1L);
+                    return List.of(dish(1, "Pizza"));
+                })
+                .thenReturn(List.of(dish(1, "Pizza Margherita")));
+        DishResponseDto first = dishCatalog.getDish(1L);
+
+        // Act
+        DishResponseDto reloaded = dishCatalog.getDish(1L);
+
+        // Assert
+        assertEquals("Pizza", first.getName());
+        assertEquals("Pizza Margherita", reloaded.getName());
+        verify(menuServiceClient, times(2)).getDishesByIds(List.of(1L));
+    }
+
+    @Test
+    void testGetDishes_MenuServiceDown_ServesLastKnownDishes() {
+        // Arrange
+        DishCatalog shortLived = new DishCatalog(menuServiceClient, meterRegistry, 100, Duration.ZERO, Duration.ofHours(24));
+        when(menuServiceClient.getDishesByIds(anyList()))
+                .thenReturn(List.of(dish(1, "Pizza")))
+                .thenThrow(new IllegalStateException("menu-service unavailable"));
+        shortLived.getDishes(Set.of(1L));
+
+        // Act
+        Map<Long, DishResponseDto> result = shortLived.getDishes(Set.of(1L));
+
+        // Assert
+        assertEquals("Pizza", result.get(1L).getName());
+        verify(menuServiceClient, times(2)).getDishesByIds(anyList());
+    }
+
+    @Test
+    void testGetDishes_MenuServiceDown_NoLastKnownCopy() {
+        // Arrange
+        when(menuServiceClient.getDishesByIds(anyList())).thenThrow(new IllegalStateException("menu-service unavailable"));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> dishCatalog.getDishes(Set.of(1L)));
+    }
+
+    @Test
+    void testEvict_DropsLastKnownCopy() {
+        // Arrange
+        DishCatalog shortLived = new DishCatalog(menuServiceClient, meterRegistry, 100, Duration.ZERO, Duration.ofHours(24));
+        when(menuServiceClient.getDishesByIds(anyList()))
+                .thenReturn(List.of(dish(1, "Pizza")))
+                .thenThrow(new IllegalStateException("menu-service unavailable"));
+        shortLived.getDishes(Set.of(1L));
+
+        // Act
+        shortLived.evict(1L);
+
+        // Assert
+        assertThrows(IllegalStateException.class, () -> shortLived.getDishes(Set.of(1L)));
+    }
+
+    @Test
+    void testGetDish_UnknownDish() {
+        // Arrange
+        when(menuServiceClient.getDishesByIds(List.of(9L))).thenReturn(List.of());
+
+        // Act & Assert
+        assertThrows(NoSuchElementException.class, () -> dishCatalog.getDish(9L));
+    }
+
+    private DishResponseDto dish(int id, String name) {
+        DishResponseDto dish = new DishResponseDto();
+        dish.setId(id);
+        dish.setName(name);
+        dish.setPrice(new BigDecimal("10.00"));
+        dish.setAvailability(true);
+        return dish;
+    }
+}
@@ -0,0 +1,178 @@
+package com.smartrestaurant.order_service.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartrestaurant.order_service.dto.OrderDetailRequestDto;
+import com.smartrestaurant.order_service.dto.OrderRequestDto;
+import com.smartrestaurant.order_service.dto.OrderResponseDto;
+import com.smartrestaurant.order_service.entity.IdempotencyRecord;
+import com.smartrestaurant.order_service.entity.OrderStatus;
+import com.smartrestaurant.order_service.repository.IdempotencyRecordRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyStoreTest {
+    @Mock
+    private IdempotencyRecordRepository repository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private IdempotencyStore idempotencyStore;
+    private OrderRequestDto request;
+    private OrderResponseDto response;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyStore = new IdempotencyStore(repository, objectMapper, 100, Duration.ofHours(24));
+        request = new OrderRequestDto(1L, "Str. Test Nr. 1", List.of(new OrderDetailRequestDto(1L, 2, null)));
+        response = new OrderResponseDto(7L, 1L, OrderStatus.PLACED, new BigDecimal("20.00"),
+                "Str. Test Nr. 1", new ArrayList<>(), ZonedDateTime.now());
+    }
+
+    @Test
+    void testFindOriginal_UnknownKey_ReturnsEmpty() {
+        // Arrange
+        when(repository.findById("key-1")).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertTrue(idempotencyStore.findOriginal("key-1", request).isEmpty());
+    }
+
+    @Test
+    void testRemember_ThenReplayServedFromMemory() {
+        // Act
+        idempotencyStore.remember("key-1", request, response);
+        Optional<OrderResponseDto> replay = idempotencyStore.findOriginal("key-1", request);
+
+        // Assert
+        assertSame(response, replay.orElseThrow());
+        ArgumentCaptor<IdempotencyRecord> saved = ArgumentCaptor.forClass(IdempotencyRecord.class);
+        verify(repository).saveAndFlush(saved.capture());
+        assertEquals(7L, saved.getValue().getOrderId());
+        assertTrue(saved.getValue().isNew());
+        verify(repository, never()).findById(any());
+    }
+
+    @Test
+    void testFindOriginal_StoredKey_LoadedOnceFromDatabase() throws Exception {
+        // Arrange
+        idempotencyStore.remember("key-1", request, response);
+        String requestHash = captureSavedRecord().getRequestHash();
+        IdempotencyStore restarted = new IdempotencyStore(repository, objectMapper, 100, Duration.ofHours(24));
+        when(repository.findById("key-1")).thenReturn(Optional.of(
+                storedRecord(requestHash, ZonedDateTime.now().minusHours(1))));
+
+        // Act
+        OrderResponseDto first = restarted.findOriginal("key-1", request).orElseThrow();
+        OrderResponseDto second = restarted.findOriginal("key-1", request).orElseThrow();
+
+        // Assert
+        assertEquals(7L, first.getId());
+        assertEquals(0, new BigDecimal("20.00").compareTo(first.getTotalPrice()));
+        assertSame(first, second);
+        verify(repository, times(1)).findById("key-1");
+    }
+
+    @Test
+    void testFindOriginal_StoredKeyOlderThanTtl_IsForgotten() throws Exception {
+        // Arrange
+        idempotencyStore.remember("key-1", request, response);
+        String requestHash = captureSavedRecord().getRequestHash();
+        IdempotencyStore restarted = new IdempotencyStore(repository, objectMapper, 100, Duration.ofHours(24));
+        when(repository.findById("key-1")).thenReturn(Optional.of(
+                storedRecord(requestHash, ZonedDateTime.now().minusHours(25))));
+
+        // Act
+        Optional<OrderResponseDto> replay = restarted.findOriginal("key-1", request);
+
+        // Assert
+        assertTrue(replay.isEmpty());
+        ArgumentCaptor<ZonedDateTime> cutoff = ArgumentCaptor.forClass(ZonedDateTime.class);
+        verify(repository).deleteByKeyCreatedBefore(eq("key-1"), cutoff.capture());
+        assertTrue(cutoff.getValue().isBefore(ZonedDateTime.now().minusHours(23)));
+    }
+
+    @Test
+    void testRemember_KeyStoredConcurrently_ThrowsDuplicateKey() {
+        // Arrange
+        when(repository.saveAndFlush(any(IdempotencyRecord.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate key value violates unique constraint"));
+
+        // Act & Assert
+        assertThrows(DuplicateIdempotencyKeyException.class,
+                () -> idempotencyStore.remember("key-1", request, response));
+        assertTrue(idempotencyStore.findOriginal("key-1", request).isEmpty());
+    }
+
+    @Test
+    void testRemember_OrderFailsToFlush_IsNotReportedAsDuplicateKey() {
+        // Arrange
+        doThrow(new DataIntegrityViolationException("value too long")).when(repository).flush();
+
+        // Act & Assert
+        assertThrows(DataIntegrityViolationException.class,
+                () -> idempotencyStore.remember("key-1", request, response));
+        verify(repository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void testFindOriginal_KeyReusedForDifferentRequest_ThrowsException() {
+        // Arrange
+        idempotencyStore.remember("key-1", request, response);
+        OrderRequestDto otherRequest = new OrderRequestDto(1L, "Str. Test Nr. 1", List.of(new OrderDetailRequestDto(1L, 3, null)));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> idempotencyStore.findOriginal("key-1", otherRequest));
+    }
+
+    @Test
+    void testFindOriginal_InvalidKey_ThrowsException() {
+        assertThrows(InvalidIdempotencyKeyException.class, () -> idempotencyStore.findOriginal(" ", request));
+        assertThrows(InvalidIdempotencyKeyException.class,
+                () -> idempotencyStore.findOriginal("k".repeat(IdempotencyStore.MAX_KEY_LENGTH + 1), request));
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void testPurgeExpired_DeletesKeysOlderThanTtl() {
+        // Arrange
+        ZonedDateTime before = ZonedDateTime.now().minusHours(24);
+
+        // Act
+        idempotencyStore.purgeExpired();
+
+        // Assert
+        ArgumentCaptor<ZonedDateTime> cutoff = ArgumentCaptor.forClass(ZonedDateTime.class);
+        verify(repository).deleteCreatedBefore(cutoff.capture());
+        assertFalse(cutoff.getValue().isBefore(before));
+        assertTrue(cutoff.getValue().isBefore(ZonedDateTime.now().minusHours(23)));
+    }
+
+    private IdempotencyRecord storedRecord(String requestHash, ZonedDateTime createdAt) throws Exception {
+        IdempotencyRecord record = new IdempotencyRecord("key-1", requestHash, 7L, objectMapper.writeValueAsString(response));
+        record.setCreatedAt(createdAt);
+        return record;
+    }
+
+    private IdempotencyRecord captureSavedRecord() {
+        ArgumentCaptor<IdempotencyRecord> saved = ArgumentCaptor.forClass(IdempotencyRecord.class);
+        verify(repository).saveAndFlush(saved.capture());
+        return saved.getValue();
+    }
+}
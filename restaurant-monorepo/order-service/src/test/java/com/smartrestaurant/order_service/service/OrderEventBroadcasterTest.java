@@ -0,0 +1,166 @@
+package com.smartrestaurant.order_service.service;
+
+import com.smartrestaurant.order_service.dto.OrderResponseDto;
+import com.smartrestaurant.order_service.entity.OrderStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderEventBroadcasterTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private OrderEventBroadcaster broadcaster = new OrderEventBroadcaster(meterRegistry, Duration.ofMinutes(1), Duration.ofMinutes(1), 16);
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.destroy();
+    }
+
+    @Test
+    void testOnOrderEvent_FilteredSubscriberGetsOnlyItsStatuses() throws Exception {
+        // Arrange
+        RecordingEmitter placedScreen = new RecordingEmitter();
+        broadcaster.subscribe(EnumSet.of(OrderStatus.PLACED), placedScreen);
+
+        // Act
+        broadcaster.onOrderEvent(OrderEvent.created(order(1L, OrderStatus.PLACED)));
+        broadcaster.onOrderEvent(OrderEvent.statusChanged(order(2L, OrderStatus.IN_PROGRESS), OrderStatus.READY_FOR_PREPARATION));
+        broadcaster.onOrderEvent(OrderEvent.statusChanged(order(1L, OrderStatus.READY_FOR_PREPARATION), OrderStatus.PLACED));
+
+        // Assert
+        OrderEvent first = placedScreen.nextEvent();
+        OrderEvent second = placedScreen.nextEvent();
+        assertEquals(OrderEvent.Type.CREATED, first.type());
+        assertEquals(1L, second.order().getId());
+        assertEquals(OrderStatus.PLACED, second.previousStatus());
+        assertNull(placedScreen.events.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void testOnOrderEvent_UnfilteredSubscriberGetsEverything() throws Exception {
+        // Arrange
+        RecordingEmitter screen = new RecordingEmitter();
+        broadcaster.subscribe(Set.of(), screen);
+
+        // Act
+        broadcaster.onOrderEvent(OrderEvent.created(order(1L, OrderStatus.PLACED)));
+        broadcaster.onOrderEvent(OrderEvent.deleted(order(2L, OrderStatus.DELIVERED)));
+
+        // Assert
+        assertEquals(OrderEvent.Type.CREATED, screen.nextEvent().type());
+        assertEquals(OrderEvent.Type.DELETED, screen.nextEvent().type());
+        assertEquals(1.0, meterRegistry.get("order.events.subscribers").gauge().value());
+    }
+
+    @Test
+    void testIdleStream_SendsHeartbeat() throws Exception {
+        // Arrange
+        broadcaster = new OrderEventBroadcaster(meterRegistry, Duration.ofMinutes(1), Duration.ofMillis(20), 16);
+        RecordingEmitter screen = new RecordingEmitter();
+
+        // Act
+        broadcaster.subscribe(Set.of(), screen);
+
+        // Assert
+        assertTrue(screen.heartbeats.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testSlowSubscriber_IsDisconnected() throws Exception {
+        // Arrange
+        broadcaster = new OrderEventBroadcaster(meterRegistry, Duration.ofMinutes(1), Duration.ofMinutes(1), 1);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter stuckScreen = new RecordingEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) throws IOException {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.send(builder);
+            }
+        };
+        broadcaster.subscribe(Set.of(), stuckScreen);
+
+        // Act
+        for (long id = 1; id <= 3; id++) {
+            broadcaster.onOrderEvent(OrderEvent.created(order(id, OrderStatus.PLACED)));
+        }
+
+        // Assert: one event in flight and one queued, the third does not fit
+        assertEquals(0, broadcaster.subscriberCount());
+        assertTrue(stuckScreen.completed);
+        release.countDown();
+    }
+
+    @Test
+    void testCompletedStream_IsRemoved() throws Exception {
+        // Arrange
+        broadcaster = new OrderEventBroadcaster(meterRegistry, Duration.ofMinutes(1), Duration.ofMillis(20), 16);
+        RecordingEmitter screen = new RecordingEmitter();
+        broadcaster.subscribe(Set.of(), screen);
+
+        // Act
+        screen.complete();
+
+        // Assert
+        for (int i = 0; i < 100 && broadcaster.subscriberCount() > 0; i++) {
+            Thread.sleep(20);
+        }
+        assertEquals(0, broadcaster.subscriberCount());
+    }
+
+    private OrderResponseDto order(Long id, OrderStatus status) {
+        OrderResponseDto order = new OrderResponseDto();
+        order.setId(id);
+        order.setStatus(status);
+        return order;
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+        private final BlockingQueue<OrderEvent> events = new LinkedBlockingQueue<>();
+        private final CountDownLatch heartbeats = new CountDownLatch(1);
+        private volatile boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (completed) {
+                throw new IllegalStateException("ResponseBodyEmitter has already completed");
+            }
+            boolean hasData = false;
+            for (var item : builder.build()) {
+                if (item.getData() instanceof OrderEvent event) {
+                    events.add(event);
+                    hasData = true;
+                }
+            }
+            if (!hasData && builder.build().stream().anyMatch(item -> item.getData().toString().startsWith(":heartbeat"))) {
+                heartbeats.countDown();
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+            super.complete();
+        }
+
+        private OrderEvent nextEvent() throws InterruptedException {
+            OrderEvent event = events.poll(5, TimeUnit.SECONDS);
+            assertNotNull(event, "no event received");
+            return event;
+        }
+    }
+}
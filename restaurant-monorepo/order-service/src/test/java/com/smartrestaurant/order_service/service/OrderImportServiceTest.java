@@ -0,0 +1,265 @@
+package com.smartrestaurant.order_service.service;
+
+import com.smartrestaurant.order_service.client.UserServiceClient;
+import com.smartrestaurant.order_service.config.RemoteCallExecutor;
+import com.smartrestaurant.order_service.dto.DishResponseDto;
+import com.smartrestaurant.order_service.dto.OrderDetailRequestDto;
+import com.smartrestaurant.order_service.dto.OrderImportResultDto;
+import com.smartrestaurant.order_service.dto.OrderRequestDto;
+import com.smartrestaurant.order_service.entity.Order;
+import com.smartrestaurant.order_service.repository.OrderRepository;
+import feign.FeignException;
+import feign.Request;
+import feign.RetryableException;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderImportServiceTest {
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private UserServiceClient userServiceClient;
+
+    @Mock
+    private DishCatalog dishCatalog;
+
+    @Mock
+    private ClientRegistry clientRegistry;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+    private final RemoteCallExecutor remoteCalls = new RemoteCallExecutor(4, Duration.ofMillis(500));
+    private final AtomicLong ids = new AtomicLong(100);
+    private OrderImportService orderImportService;
+
+    @BeforeEach
+    void setUp() {
+        orderImportService = new OrderImportService(orderRepository, userServiceClient, dishCatalog,
+                clientRegistry, remoteCalls, validator, transactionManager, eventPublisher, 2);
+    }
+
+    @Test
+    void testImportOrders_SavesValidOrdersInChunks() {
+        // Arrange
+        when(clientRegistry.contains(1L)).thenReturn(true);
+        when(dishCatalog.getDishes(Set.of(1L))).thenReturn(Map.of(1L, dish(1, "10.00")));
+        when(orderRepository.saveAll(anyList())).thenAnswer(invocation -> assignIds(invocation.getArgument(0)));
+
+        // Act
+        List<OrderImportResultDto> results = orderImportService.importOrders(
+                List.of(order(1L, 1L, 2), order(1L, 1L, 1), order(1L, 1L, 3)).iterator());
+
+        // Assert
+        assertEquals(3, results.size());
+        assertEquals(List.of(100L, 101L, 102L), results.stream().map(OrderImportResultDto::getOrderId).toList());
+        assertTrue(results.stream().allMatch(result -> result.getError() == null));
+        assertEquals(List.of(0, 1, 2), results.stream().map(OrderImportResultDto::getIndex).toList());
+        verify(orderRepository, times(2)).saveAll(anyList());
+        verify(dishCatalog, times(2)).getDishes(Set.of(1L));
+        verify(eventPublisher, times(3)).publishEvent(any(OrderEvent.class));
+        verifyNoInteractions(userServiceClient);
+    }
+
+    @Test
+    void testImportOrders_PricesOrdersFromCatalog() {
+        // Arrange
+        when(clientRegistry.contains(1L)).thenReturn(true);
+        when(dishCatalog.getDishes(Set.of(1L, 2L))).thenReturn(Map.of(1L, dish(1, "10.00"), 2L, dish(2, "4.50")));
+        List<Order> saved = new ArrayList<>();
+        when(orderRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            saved.addAll(invocation.getArgument(0));
+            return assignIds(invocation.getArgument(0));
+        });
+        OrderRequestDto request = order(1L, 1L, 2);
+        request.setItems(List.of(request.getItems().get(0), new OrderDetailRequestDto(2L, 2, null)));
+
+        // Act
+        orderImportService.importOrders(List.of(request).iterator());
+
+        // Assert
+        assertEquals(0, new BigDecimal("29.00").compareTo(saved.get(0).getTotalPrice()));
+        assertEquals(2, saved.get(0).getOrderDetails().size());
+    }
+
+    @Test
+    void testImportOrders_ReportsInvalidOrdersWithoutFailingOthers() {
+        // Arrange
+        when(clientRegistry.contains(1L)).thenReturn(true);
+        when(clientRegistry.contains(9L)).thenReturn(false);
+        when(userServiceClient.getUserById(9L)).thenThrow(new FeignException.NotFound("User not found", userRequest(), null, null));
+        when(dishCatalog.getDishes(Set.of(1L, 7L))).thenReturn(Map.of(1L, dish(1, "10.00")));
+        when(orderRepository.saveAll(anyList())).thenAnswer(invocation -> assignIds(invocation.getArgument(0)));
+        OrderImportService service = new OrderImportService(orderRepository, userServiceClient, dishCatalog,
+                clientRegistry, remoteCalls, validator, transactionManager, eventPublisher, 10);
+
+        // Act
+        List<OrderImportResultDto> results = service.importOrders(List.of(
+                order(1L, 1L, 1),
+                order(9L, 1L, 1),
+                order(1L, 7L, 1),
+                order(1L, 1L, 0)).iterator());
+
+        // Assert
+        assertEquals(100L, results.get(0).getOrderId());
+        assertEquals("Client with  ID 9 does not exist!", results.get(1).getError());
+        assertEquals("Dish with ID 7 does not exist!", results.get(2).getError());
+        assertTrue(results.get(3).getError().contains("quantity"));
+        assertNull(results.get(3).getOrderId());
+    }
+
+    @Test
+    void testImportOrders_UnknownClientConfirmedRemotely() {
+        // Arrange
+        when(clientRegistry.contains(5L)).thenReturn(false);
+        when(dishCatalog.getDishes(Set.of(1L))).thenReturn(Map.of(1L, dish(1, "10.00")));
+        when(orderRepository.saveAll(anyList())).thenAnswer(invocation -> assignIds(invocation.getArgument(0)));
+
+        // Act
+        List<OrderImportResultDto> results = orderImportService.importOrders(
+                List.of(order(5L, 1L, 1), order(5L, 1L, 1)).iterator());
+
+        // Assert
+        assertTrue(results.stream().allMatch(result -> result.getOrderId() != null));
+        verify(userServiceClient, times(1)).getUserById(5L);
+        verify(clientRegistry).register(5L);
+    }
+
+    @Test
+    void testImportOrders_UserServiceUnavailable_IsNotReportedAsMissingClient() {
+        // Arrange
+        when(clientRegistry.contains(5L)).thenReturn(false);
+        when(clientRegistry.contains(6L)).thenReturn(false);
+        when(userServiceClient.getUserById(5L)).thenThrow(
+                new RetryableException(503, "Service unavailable", Request.HttpMethod.GET, (Long) null, userRequest()));
+        when(dishCatalog.getDishes(Set.of(1L))).thenReturn(Map.of(1L, dish(1, "10.00")));
+        when(orderRepository.saveAll(anyList())).thenAnswer(invocation -> assignIds(invocation.getArgument(0)));
+
+        // Act
+        List<OrderImportResultDto> results = orderImportService.importOrders(
+                List.of(order(5L, 1L, 1), order(6L, 1L, 1)).iterator());
+
+        // Assert
+        assertEquals("Client lookup unavailable: Service unavailable", results.get(0).getError());
+        assertNull(results.get(0).getOrderId());
+        assertEquals(100L, results.get(1).getOrderId());
+        verify(clientRegistry, never()).register(5L);
+        verify(clientRegistry).register(6L);
+    }
+
+    @Test
+    void testImportOrders_SaveFails_MarksChunkAsFailed() {
+        // Arrange
+        when(clientRegistry.contains(1L)).thenReturn(true);
+        when(dishCatalog.getDishes(Set.of(1L))).thenReturn(Map.of(1L, dish(1, "10.00")));
+        when(orderRepository.saveAll(anyList())).thenThrow(new IllegalStateException("connection reset"));
+
+        // Act
+        List<OrderImportResultDto> results = orderImportService.importOrders(
+                List.of(order(1L, 1L, 1), order(1L, 1L, 1)).iterator());
+
+        // Assert
+        assertTrue(results.stream().allMatch(result -> result.getError().startsWith("Could not be saved")));
+    }
+
+    @Test
+    void testImportOrders_UnreadableInput_ImportsWhatWasRead() {
+        // Arrange
+        when(clientRegistry.contains(1L)).thenReturn(true);
+        when(dishCatalog.getDishes(Set.of(1L))).thenReturn(Map.of(1L, dish(1, "10.00")));
+        when(orderRepository.saveAll(anyList())).thenAnswer(invocation -> assignIds(invocation.getArgument(0)));
+        Iterator<OrderRequestDto> input = new Iterator<>() {
+            private int read;
+
+            @Override
+            public boolean hasNext() {
+                if (read == 1) {
+                    throw new IllegalStateException("Unexpected character");
+                }
+                return true;
+            }
+
+            @Override
+            public OrderRequestDto next() {
+                read++;
+                return order(1L, 1L, 1);
+            }
+        };
+
+        // Act
+        List<OrderImportResultDto> results = orderImportService.importOrders(input);
+
+        // Assert
+        assertEquals(2, results.size());
+        assertEquals(100L, results.get(0).getOrderId());
+        assertEquals(1, results.get(1).getIndex());
+        assertTrue(results.get(1).getError().startsWith("Unreadable order"));
+    }
+
+    @Test
+    void testImportOrders_MenuServiceDown_RejectsChunk() {
+        // Arrange
+        when(clientRegistry.contains(anyLong())).thenReturn(true);
+        when(dishCatalog.getDishes(Set.of(1L))).thenThrow(new NoSuchElementException("menu-service unavailable"));
+
+        // Act
+        List<OrderImportResultDto> results = orderImportService.importOrders(List.of(order(1L, 1L, 1)).iterator());
+
+        // Assert
+        assertTrue(results.get(0).getError().startsWith("Dish prices unavailable"));
+        verifyNoInteractions(orderRepository);
+    }
+
+    private Request userRequest() {
+        return Request.create(Request.HttpMethod.GET, "http://user-service/api/users/5", Map.of(), null,
+                StandardCharsets.UTF_8, null);
+    }
+
+    private List<Order> assignIds(List<Order> orders) {
+        orders.forEach(order -> order.setId(ids.getAndIncrement()));
+        return orders;
+    }
+
+    private OrderRequestDto order(Long clientId, Long dishId, int quantity) {
+        return new OrderRequestDto(clientId, "Str. Test Nr. 1",
+                new ArrayList<>(List.of(new OrderDetailRequestDto(dishId, quantity, null))));
+    }
+
+    private DishResponseDto dish(int id, String price) {
+        DishResponseDto dish = new DishResponseDto();
+        dish.setId(id);
+        dish.setName("Dish " + id);
+        dish.setPrice(new BigDecimal(price));
+        return dish;
+    }
+}
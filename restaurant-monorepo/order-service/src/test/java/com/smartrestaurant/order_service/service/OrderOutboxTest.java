@@ -0,0 +1,162 @@
+package com.smartrestaurant.order_service.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartrestaurant.order_service.dto.OrderResponseDto;
+import com.smartrestaurant.order_service.entity.OrderStatus;
+import com.smartrestaurant.order_service.entity.OutboxEvent;
+import com.smartrestaurant.order_service.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderOutboxTest {
+    @Mock
+    private OutboxEventRepository repository;
+
+    @Mock
+    private OrderEventSubscriber subscriber;
+
+    @Mock
+    private OrderEventSubscriber projection;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private OrderOutbox outbox;
+
+    @BeforeEach
+    void setUp() {
+        outbox = new OrderOutbox(repository, List.of(subscriber, projection), objectMapper, transactionManager,
+                2, Duration.ofMinutes(2), Duration.ofDays(7));
+    }
+
+    @Test
+    void testOnOrderEvent_StoresEvent() throws Exception {
+        // Arrange
+        OrderResponseDto order = new OrderResponseDto();
+        order.setId(5L);
+        order.setStatus(OrderStatus.IN_PROGRESS);
+
+        // Act
+        outbox.onOrderEvent(OrderEvent.statusChanged(order, OrderStatus.READY_FOR_PREPARATION));
+
+        // Assert
+        ArgumentCaptor<OutboxEvent> saved = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(repository).save(saved.capture());
+        assertEquals("STATUS_CHANGED", saved.getValue().getEventType());
+        assertEquals(5L, saved.getValue().getOrderId());
+        OrderEvent payload = objectMapper.readValue(saved.getValue().getPayload(), OrderEvent.class);
+        assertEquals(OrderStatus.READY_FOR_PREPARATION, payload.previousStatus());
+        assertEquals(OrderStatus.IN_PROGRESS, payload.order().getStatus());
+    }
+
+    @Test
+    void testRelay_DeliversBatchesUntilNoneLeft() {
+        // Arrange
+        List<OutboxEvent> first = List.of(event(1L), event(2L));
+        List<OutboxEvent> second = List.of(event(3L));
+        when(repository.findClaimable(any(ZonedDateTime.class), eq(Limit.of(2))))
+                .thenReturn(first)
+                .thenReturn(second);
+        when(repository.markPublished(eq(List.of(1L, 2L)), any())).thenReturn(2);
+        when(repository.markPublished(eq(List.of(3L)), any())).thenReturn(1);
+
+        // Act
+        outbox.relay();
+
+        // Assert
+        verify(subscriber).deliver(first);
+        verify(subscriber).deliver(second);
+        verify(repository, times(2)).findClaimable(any(), any());
+        assertTrue(first.stream().allMatch(event -> event.getClaimedUntil().isAfter(ZonedDateTime.now())));
+        verify(repository, never()).releaseClaims(any());
+    }
+
+    @Test
+    void testRelay_DeliversBeforeThePublishingTransaction() {
+        // Arrange
+        List<OutboxEvent> batch = List.of(event(1L));
+        when(repository.findClaimable(any(ZonedDateTime.class), eq(Limit.of(2)))).thenReturn(batch);
+        when(repository.markPublished(eq(List.of(1L)), any())).thenReturn(1);
+        when(projection.transactional()).thenReturn(true);
+
+        // Act
+        outbox.relay();
+
+        // Assert
+        InOrder inOrder = inOrder(transactionManager, subscriber, repository, projection);
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(subscriber).deliver(batch);
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(repository).markPublished(eq(List.of(1L)), any());
+        inOrder.verify(projection).deliver(batch);
+        inOrder.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void testRelay_SubscriberFails_ReleasesBatch() {
+        // Arrange
+        List<OutboxEvent> batch = List.of(event(1L));
+        when(repository.findClaimable(any(ZonedDateTime.class), eq(Limit.of(2)))).thenReturn(batch);
+        doThrow(new IllegalStateException("dashboard down")).when(subscriber).deliver(batch);
+
+        // Act
+        assertDoesNotThrow(() -> outbox.relay());
+
+        // Assert
+        verify(repository, never()).markPublished(any(), any());
+        verify(repository).releaseClaims(List.of(1L));
+        verify(projection, never()).deliver(any());
+    }
+
+    @Test
+    void testRelay_ClaimExpiredMeanwhile_DoesNotApplyBatchTwice() {
+        // Arrange
+        List<OutboxEvent> batch = List.of(event(1L));
+        when(repository.findClaimable(any(ZonedDateTime.class), eq(Limit.of(2)))).thenReturn(batch);
+        when(repository.markPublished(eq(List.of(1L)), any())).thenReturn(0);
+        when(projection.transactional()).thenReturn(true);
+
+        // Act
+        assertDoesNotThrow(() -> outbox.relay());
+
+        // Assert
+        verify(projection, never()).deliver(any());
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void testRelay_NothingPending_DeliversNothing() {
+        // Arrange
+        when(repository.findClaimable(any(ZonedDateTime.class), eq(Limit.of(2)))).thenReturn(List.of());
+
+        // Act
+        outbox.relay();
+
+        // Assert
+        verifyNoInteractions(subscriber, projection);
+    }
+
+    private OutboxEvent event(Long id) {
+        OutboxEvent event = new OutboxEvent("CREATED", id, "{}");
+        event.setId(id);
+        return event;
+    }
+}
@@ -2,29 +2,50 @@ package com.smartrestaurant.order_service.service;
 
 import com.smartrestaurant.order_service.client.MenuServiceClient;
 import com.smartrestaurant.order_service.client.UserServiceClient;
+import com.smartrestaurant.order_service.config.RemoteCallExecutor;
+import com.smartrestaurant.order_service.config.RemoteCallTimeoutException;
 import com.smartrestaurant.order_service.dto.*;
 import com.smartrestaurant.order_service.entity.Order;
 import com.smartrestaurant.order_service.entity.OrderDetail;
 import com.smartrestaurant.order_service.entity.OrderStatus;
 import com.smartrestaurant.order_service.repository.OrderRepository;
+import feign.FeignException;
+import feign.Request;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 
@@ -39,6 +60,21 @@ class OrderServiceImplTest {
     @Mock
     private UserServiceClient userServiceClient;
 
+    @Mock
+    private DishCatalog dishCatalog;
+
+    @Mock
+    private ClientRegistry clientRegistry;
+
+    @Mock
+    private IdempotencyStore idempotencyStore;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private RemoteCallExecutor remoteCalls = new RemoteCallExecutor(4, Duration.ofMillis(500));
+
     @InjectMocks
     private OrderServiceImpl orderService;
 
@@ -93,7 +129,7 @@ class OrderServiceImplTest {
     void testCreateOrder_Success() {
         // Arrange
         when(userServiceClient.getUserById(anyLong())).thenReturn(userResponseDto);
-        when(menuServiceClient.getDishById(anyLong())).thenReturn(dishResponseDto);
+        when(dishCatalog.getDishes(Set.of(1L))).thenReturn(Map.of(1L, dishResponseDto));
         when(orderRepository.save(any(Order.class))).thenReturn(order);
 
         // Act
@@ -106,20 +142,120 @@ class OrderServiceImplTest {
         assertEquals(new BigDecimal("20.00"), result.getTotalPrice());
         verify(orderRepository, times(1)).save(any(Order.class));
         verify(userServiceClient, times(1)).getUserById(1L);
-        verify(menuServiceClient, times(1)).getDishById(1L);
+        verify(clientRegistry).register(1L);
+        verify(dishCatalog, times(1)).getDishes(Set.of(1L));
+        verify(eventPublisher).publishEvent(OrderEvent.created(result));
+        verifyNoInteractions(menuServiceClient);
+    }
+
+    @Test
+    void testCreateOrder_KnownClient_SkipsUserServiceCall() {
+        // Arrange
+        when(clientRegistry.contains(1L)).thenReturn(true);
+        when(dishCatalog.getDishes(Set.of(1L))).thenReturn(Map.of(1L, dishResponseDto));
+        when(orderRepository.save(any(Order.class))).thenReturn(order);
+
+        // Act
+        OrderResponseDto result = orderService.createOrder(orderRequestDto);
+
+        // Assert
+        assertEquals(1L, result.getId());
+        verifyNoInteractions(userServiceClient);
+    }
+
+    @Test
+    void testCreateOrder_NewIdempotencyKey_CreatesAndRemembersOrder() {
+        // Arrange
+        when(idempotencyStore.findOriginal("key-1", orderRequestDto)).thenReturn(Optional.empty());
+        when(clientRegistry.contains(1L)).thenReturn(true);
+        when(dishCatalog.getDishes(Set.of(1L))).thenReturn(Map.of(1L, dishResponseDto));
+        when(orderRepository.save(any(Order.class))).thenReturn(order);
+
+        // Act
+        OrderResponseDto result = orderService.createOrder(orderRequestDto, "key-1");
+
+        // Assert
+        assertEquals(1L, result.getId());
+        verify(idempotencyStore).remember("key-1", orderRequestDto, result);
+    }
+
+    @Test
+    void testCreateOrder_ReplayedIdempotencyKey_ReturnsOriginalWithoutCreating() {
+        // Arrange
+        OrderResponseDto original = new OrderResponseDto();
+        original.setId(1L);
+        when(idempotencyStore.findOriginal("key-1", orderRequestDto)).thenReturn(Optional.of(original));
+
+        // Act
+        OrderResponseDto result = orderService.createOrder(orderRequestDto, "key-1");
+
+        // Assert
+        assertSame(original, result);
+        verify(idempotencyStore, never()).remember(any(), any(), any());
+        verifyNoInteractions(orderRepository, userServiceClient, dishCatalog, clientRegistry);
+    }
+
+    @Test
+    void testCreateOrder_ResolvesRepeatedDishesInOneCall() {
+        // Arrange
+        OrderDetailRequestDto secondLine = new OrderDetailRequestDto();
+        secondLine.setDishId(1L);
+        secondLine.setQuantity(3);
+        orderRequestDto.setItems(Arrays.asList(orderRequestDto.getItems().get(0), secondLine));
+
+        when(userServiceClient.getUserById(anyLong())).thenReturn(userResponseDto);
+        when(dishCatalog.getDishes(Set.of(1L))).thenReturn(Map.of(1L, dishResponseDto));
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        OrderResponseDto result = orderService.createOrder(orderRequestDto);
+
+        // Assert
+        assertEquals(2, result.getItems().size());
+        assertEquals(0, new BigDecimal("50.00").compareTo(result.getTotalPrice()));
+        verify(dishCatalog, times(1)).getDishes(Set.of(1L));
+    }
+
+    @Test
+    void testCreateOrder_DishNotFound() {
+        // Arrange
+        when(userServiceClient.getUserById(anyLong())).thenReturn(userResponseDto);
+        when(dishCatalog.getDishes(Set.of(1L))).thenReturn(Map.of());
+
+        // Act & Assert
+        assertThrows(NoSuchElementException.class, () ->
+                orderService.createOrder(orderRequestDto)
+        );
+        verify(orderRepository, never()).save(any(Order.class));
     }
 
     @Test
     void testCreateOrder_UserNotFound() {
         // Arrange
         when(userServiceClient.getUserById(anyLong()))
-                .thenThrow(new RuntimeException("User not found"));
+                .thenThrow(new FeignException.NotFound("User not found", userRequest(), null, null));
 
         // Act & Assert
         assertThrows(NoSuchElementException.class, () ->
                 orderService.createOrder(orderRequestDto)
         );
         verify(orderRepository, never()).save(any(Order.class));
+        verify(clientRegistry, never()).register(anyLong());
+    }
+
+    @Test
+    void testCreateOrder_UserServiceUnavailable_IsNotReportedAsMissingClient() {
+        // Arrange
+        CallNotPermittedException open = CallNotPermittedException.createCallNotPermittedException(
+                CircuitBreaker.ofDefaults("user-service"));
+        when(userServiceClient.getUserById(anyLong())).thenThrow(open);
+
+        // Act & Assert
+        assertSame(open, assertThrows(CallNotPermittedException.class, () ->
+                orderService.createOrder(orderRequestDto)
+        ));
+        verify(orderRepository, never()).save(any(Order.class));
+        verify(clientRegistry, never()).register(anyLong());
     }
 
     @Test
@@ -152,7 +288,7 @@ class OrderServiceImplTest {
     void testGetAllOrders_Success() {
         // Arrange
         List<Order> orders = Arrays.asList(order);
-        when(orderRepository.findAll()).thenReturn(orders);
+        when(orderRepository.findAllWithDetails()).thenReturn(orders);
 
         // Act
         List<OrderResponseDto> result = orderService.getAllOrders();
@@ -161,14 +297,82 @@ class OrderServiceImplTest {
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals(1L, result.get(0).getId());
-        verify(orderRepository, times(1)).findAll();
+        verify(orderRepository, times(1)).findAllWithDetails();
+    }
+
+    @Test
+    void testGetOrdersPage_FullPageReturnsCursor() {
+        // Arrange
+        when(orderRepository.findIdsAfter(0L, Limit.of(1))).thenReturn(List.of(1L));
+        when(orderRepository.findAllWithDetailsByIdIn(List.of(1L))).thenReturn(List.of(order));
+
+        // Act
+        OrderPageResponseDto result = orderService.getOrdersPage(null, 1);
+
+        // Assert
+        assertEquals(1, result.getItems().size());
+        assertEquals(1L, result.getNextCursor());
+    }
+
+    @Test
+    void testGetOrdersPage_LastPageHasNoCursor() {
+        // Arrange
+        when(orderRepository.findIdsAfter(0L, Limit.of(10))).thenReturn(List.of(1L));
+        when(orderRepository.findAllWithDetailsByIdIn(List.of(1L))).thenReturn(List.of(order));
+
+        // Act
+        OrderPageResponseDto result = orderService.getOrdersPage(0L, 10);
+
+        // Assert
+        assertEquals(1, result.getItems().size());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void testGetOrdersPage_SizeIsCapped() {
+        // Arrange
+        when(orderRepository.findIdsAfter(0L, Limit.of(OrderServiceImpl.MAX_PAGE_SIZE))).thenReturn(List.of(1L));
+        when(orderRepository.findAllWithDetailsByIdIn(List.of(1L))).thenReturn(List.of(order));
+
+        // Act
+        OrderPageResponseDto result = orderService.getOrdersPage(null, 1_000_000);
+
+        // Assert
+        assertEquals(1, result.getItems().size());
+        verify(orderRepository).findIdsAfter(0L, Limit.of(OrderServiceImpl.MAX_PAGE_SIZE));
+    }
+
+    @Test
+    void testGetOrdersPage_InvalidSize() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () ->
+                orderService.getOrdersPage(null, 0)
+        );
+        verifyNoInteractions(orderRepository);
+    }
+
+    @Test
+    void testStreamAllOrders_ReadsUntilShortChunk() {
+        // Arrange
+        when(orderRepository.findIdsAfter(eq(0L), any(Limit.class))).thenReturn(List.of(1L));
+        when(orderRepository.findAllWithDetailsByIdIn(List.of(1L))).thenReturn(List.of(order));
+        List<OrderResponseDto> streamed = new ArrayList<>();
+
+        // Act
+        orderService.streamAllOrders(streamed::add);
+
+        // Assert
+        assertEquals(1, streamed.size());
+        assertEquals(1L, streamed.get(0).getId());
+        verify(orderRepository, times(1)).findIdsAfter(anyLong(), any(Limit.class));
+        verify(orderRepository, never()).findAll();
     }
 
     @Test
     void testUpdateOrder_Success() {
         // Arrange
         when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
-        when(menuServiceClient.getDishById(anyLong())).thenReturn(dishResponseDto);
+        when(dishCatalog.getDishes(Set.of(1L))).thenReturn(Map.of(1L, dishResponseDto));
         when(orderRepository.save(any(Order.class))).thenReturn(order);
 
         // Act
@@ -178,6 +382,29 @@ class OrderServiceImplTest {
         assertNotNull(result);
         assertEquals("Str. Test Nr. 1", result.getDeliveryAddress());
         verify(orderRepository, times(1)).save(any(Order.class));
+        ArgumentCaptor<OrderEvent> event = ArgumentCaptor.forClass(OrderEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(OrderEvent.Type.UPDATED, event.getValue().type());
+        assertEquals(new BigDecimal("20.00"), event.getValue().previousTotalPrice());
+    }
+
+    @Test
+    void testUpdateOrder_TotalMatchesSavedDetailPrices() {
+        // Arrange
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
+        when(dishCatalog.getDishes(Set.of(1L))).thenReturn(Map.of(1L, dishResponseDto));
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        OrderResponseDto result = orderService.updateOrder(1L, orderRequestDto);
+
+        // Assert
+        BigDecimal detailsSum = result.getItems().stream()
+                .map(OrderDetailResponseDto::getPriceAtOrder)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        assertEquals(0, detailsSum.compareTo(result.getTotalPrice()));
+        verify(dishCatalog, times(1)).getDishes(Set.of(1L));
+        verifyNoInteractions(menuServiceClient);
     }
 
     @Test
@@ -195,12 +422,9 @@ class OrderServiceImplTest {
     void testUpdateStatusReadyForPreparation_Success() {
         // Arrange
         order.setStatus(OrderStatus.PLACED);
+        order.setVersion(3L);
         when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
-        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> {
-            Order savedOrder = invocation.getArgument(0);
-            savedOrder.setStatus(OrderStatus.READY_FOR_PREPARATION);
-            return savedOrder;
-        });
+        when(orderRepository.updateStatus(1L, 3L, OrderStatus.READY_FOR_PREPARATION)).thenReturn(1);
 
         // Act
         OrderResponseDto result = orderService.updateStatusReadyForPreparation(1L);
@@ -208,7 +432,58 @@ class OrderServiceImplTest {
         // Assert
         assertNotNull(result);
         assertEquals(OrderStatus.READY_FOR_PREPARATION, result.getStatus());
-        verify(orderRepository, times(1)).save(any(Order.class));
+        verify(orderRepository, never()).save(any(Order.class));
+        verify(eventPublisher).publishEvent(OrderEvent.statusChanged(result, OrderStatus.PLACED));
+    }
+
+    @Test
+    void testChangeStatus_FollowsLifecycle() {
+        // Arrange
+        order.setVersion(0L);
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
+        when(orderRepository.updateStatus(eq(1L), anyLong(), any(OrderStatus.class))).thenReturn(1);
+
+        // Act & Assert
+        for (OrderStatus next : List.of(OrderStatus.READY_FOR_PREPARATION, OrderStatus.IN_PROGRESS, OrderStatus.DELIVERED)) {
+            assertEquals(next, orderService.changeStatus(1L, next).getStatus());
+            order.setStatus(next);
+            order.setVersion(order.getVersion() + 1);
+        }
+        verify(orderRepository).updateStatus(1L, 2L, OrderStatus.DELIVERED);
+    }
+
+    @Test
+    void testChangeStatus_FinalStatus_ThrowsException() {
+        // Arrange
+        order.setStatus(OrderStatus.CANCELED);
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> orderService.changeStatus(1L, OrderStatus.IN_PROGRESS));
+        verify(orderRepository, never()).updateStatus(anyLong(), any(), any());
+    }
+
+    @Test
+    void testChangeStatus_SkippingStep_ThrowsException() {
+        // Arrange
+        order.setStatus(OrderStatus.PLACED);
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> orderService.changeStatus(1L, OrderStatus.DELIVERED));
+    }
+
+    @Test
+    void testChangeStatus_ChangedConcurrently_ThrowsConflict() {
+        // Arrange
+        order.setStatus(OrderStatus.PLACED);
+        order.setVersion(0L);
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
+        when(orderRepository.updateStatus(1L, 0L, OrderStatus.CANCELED)).thenReturn(0);
+
+        // Act & Assert
+        assertThrows(OptimisticLockingFailureException.class, () -> orderService.changeStatus(1L, OrderStatus.CANCELED));
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -236,6 +511,7 @@ class OrderServiceImplTest {
         assertNotNull(result);
         assertEquals(1L, result.getId());
         verify(orderRepository, times(1)).delete(order);
+        verify(eventPublisher).publishEvent(OrderEvent.deleted(result));
     }
 
     @Test
@@ -254,7 +530,7 @@ class OrderServiceImplTest {
         // Arrange
         when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
         when(userServiceClient.getUserById(1L)).thenReturn(userResponseDto);
-        when(menuServiceClient.getDishById(1L)).thenReturn(dishResponseDto);
+        when(dishCatalog.getDishes(Set.of(1L))).thenReturn(Map.of(1L, dishResponseDto));
 
         // Act
         OrderDetailedResponseDto result = orderService.getOrderDetails(1L);
@@ -267,20 +543,69 @@ class OrderServiceImplTest {
         assertEquals("Pizza", result.getDishNames().get(0));
     }
 
+    @Test
+    void testGetOrderDetails_LooksUpClientAndDishesConcurrently() {
+        // Arrange
+        OrderDetail repeatedDish = new OrderDetail();
+        repeatedDish.setDishId(1L);
+        repeatedDish.setQuantity(1);
+        repeatedDish.setPriceAtOrder(new BigDecimal("10.00"));
+        order.getOrderDetails().add(repeatedDish);
+
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
+        when(userServiceClient.getUserById(1L)).thenAnswer(invocation -> {
+            bothStarted.countDown();
+            bothStarted.await(1, TimeUnit.SECONDS);
+            return userResponseDto;
+        });
+        when(dishCatalog.getDishes(Set.of(1L))).thenAnswer(invocation -> {
+            bothStarted.countDown();
+            bothStarted.await(1, TimeUnit.SECONDS);
+            return Map.of(1L, dishResponseDto);
+        });
+
+        // Act
+        OrderDetailedResponseDto result = orderService.getOrderDetails(1L);
+
+        // Assert
+        assertEquals(0, bothStarted.getCount());
+        assertEquals(List.of("Pizza", "Pizza"), result.getDishNames());
+        verify(dishCatalog, times(1)).getDishes(Set.of(1L));
+    }
+
+    @Test
+    void testGetOrderDetails_DeadlineExceeded() {
+        // Arrange
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
+        when(userServiceClient.getUserById(1L)).thenAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return userResponseDto;
+        });
+        when(dishCatalog.getDishes(Set.of(1L))).thenReturn(Map.of(1L, dishResponseDto));
+
+        // Act & Assert
+        assertThrows(RemoteCallTimeoutException.class, () ->
+                orderService.getOrderDetails(1L)
+        );
+    }
+
     @Test
     void testGetOrdersByClientName_Success() {
         // Arrange
         List<UserResponseDto> users = Arrays.asList(userResponseDto);
         when(userServiceClient.searchUsersByName("Test")).thenReturn(users);
-        when(orderRepository.findAll()).thenReturn(Arrays.asList(order));
+        when(orderRepository.findByClientIdIn(eq(Set.of(1L)), any(Pageable.class))).thenReturn(Arrays.asList(order));
 
         // Act
-        List<OrderResponseDto> result = orderService.getOrdersByClientName("Test");
+        List<OrderResponseDto> result = orderService.getOrdersByClientName("Test", 0, 20);
 
         // Assert
         assertNotNull(result);
         assertEquals(1, result.size());
         verify(userServiceClient, times(1)).searchUsersByName("Test");
+        verify(orderRepository, times(1)).findByClientIdIn(Set.of(1L), PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "id")));
+        verify(orderRepository, never()).findAll();
     }
 
     @Test
@@ -289,11 +614,21 @@ class OrderServiceImplTest {
         when(userServiceClient.searchUsersByName("NonExistent")).thenReturn(List.of());
 
         // Act
-        List<OrderResponseDto> result = orderService.getOrdersByClientName("NonExistent");
+        List<OrderResponseDto> result = orderService.getOrdersByClientName("NonExistent", 0, 20);
 
         // Assert
         assertNotNull(result);
         assertTrue(result.isEmpty());
+        verifyNoInteractions(orderRepository);
+    }
+
+    @Test
+    void testGetOrdersByClientName_InvalidPage() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () ->
+                orderService.getOrdersByClientName("Test", -1, 20)
+        );
+        verifyNoInteractions(userServiceClient);
     }
 
     @Test
@@ -301,14 +636,29 @@ class OrderServiceImplTest {
         // Arrange
         List<DishResponseDto> dishes = Arrays.asList(dishResponseDto);
         when(menuServiceClient.searchDishesByName("Pizza")).thenReturn(dishes);
-        when(orderRepository.findAll()).thenReturn(Arrays.asList(order));
+        when(orderRepository.findContainingAnyDish(eq(Set.of(1L)), any(Pageable.class))).thenReturn(Arrays.asList(order));
 
         // Act
-        List<OrderResponseDto> result = orderService.getOrdersByDishName("Pizza");
+        List<OrderResponseDto> result = orderService.getOrdersByDishName("Pizza", 0, 20);
 
         // Assert
         assertNotNull(result);
         assertEquals(1, result.size());
+        verify(orderRepository, times(1)).findContainingAnyDish(Set.of(1L), PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "id")));
+        verify(orderRepository, never()).findAll();
+    }
+
+    @Test
+    void testGetOrdersByDishName_NoDishes() {
+        // Arrange
+        when(menuServiceClient.searchDishesByName("Sushi")).thenReturn(List.of());
+
+        // Act
+        List<OrderResponseDto> result = orderService.getOrdersByDishName("Sushi", 0, 20);
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(orderRepository);
     }
 
     @Test
@@ -338,23 +688,37 @@ class OrderServiceImplTest {
     void testGetLargeOrdersSortedByTotal_Success() {
         // Arrange
         BigDecimal minTotal = new BigDecimal("15.00");
-        when(orderRepository.findByTotalPriceGreaterThan(minTotal))
+        when(orderRepository.findByTotalPriceGreaterThan(eq(minTotal), any(Pageable.class)))
                 .thenReturn(Arrays.asList(order));
 
         // Act
-        List<OrderResponseDto> result = orderService.getLargeOrdersSortedByTotal(minTotal);
+        List<OrderResponseDto> result = orderService.getLargeOrdersSortedByTotal(minTotal, 0, 10);
 
         // Assert
         assertNotNull(result);
         assertEquals(1, result.size());
         assertTrue(result.get(0).getTotalPrice().compareTo(minTotal) > 0);
+
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(orderRepository).findByTotalPriceGreaterThan(eq(minTotal), pageable.capture());
+        assertEquals(10, pageable.getValue().getPageSize());
+        assertEquals(Sort.Direction.DESC, pageable.getValue().getSort().getOrderFor("totalPrice").getDirection());
+    }
+
+    @Test
+    void testGetLargeOrdersSortedByTotal_InvalidPageSize() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () ->
+                orderService.getLargeOrdersSortedByTotal(BigDecimal.ZERO, 0, 0)
+        );
+        verifyNoInteractions(orderRepository);
     }
 
     @Test
     void testGetLargeOrdersSortedByTotal_NullMinTotal() {
         // Act & Assert
         assertThrows(IllegalArgumentException.class, () ->
-                orderService.getLargeOrdersSortedByTotal(null)
+                orderService.getLargeOrdersSortedByTotal(null, 0, 10)
         );
     }
 
@@ -362,8 +726,12 @@ class OrderServiceImplTest {
     void testGetLargeOrdersSortedByTotal_NegativeMinTotal() {
         // Act & Assert
         assertThrows(IllegalArgumentException.class, () ->
-                orderService.getLargeOrdersSortedByTotal(new BigDecimal("-10.00"))
+                orderService.getLargeOrdersSortedByTotal(new BigDecimal("-10.00"), 0, 10)
         );
     }
 
-}
\ No newline at end of file
+    private static Request userRequest() {
+        return Request.create(Request.HttpMethod.GET, "http://user-service/api/users/search/1",
+                Map.of(), null, StandardCharsets.UTF_8, null);
+    }
+}
@@ -0,0 +1,169 @@
+package com.smartrestaurant.order_service.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartrestaurant.order_service.dto.OrderResponseDto;
+import com.smartrestaurant.order_service.entity.Order;
+import com.smartrestaurant.order_service.entity.OrderStatsBucket;
+import com.smartrestaurant.order_service.entity.OrderStatsKey;
+import com.smartrestaurant.order_service.entity.OrderStatus;
+import com.smartrestaurant.order_service.entity.OutboxEvent;
+import com.smartrestaurant.order_service.repository.OrderRepository;
+import com.smartrestaurant.order_service.repository.OrderStatsRepository;
+import com.smartrestaurant.order_service.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class OrderStatsProjectionTest {
+    private static final ZonedDateTime PLACED_AT = ZonedDateTime.of(2026, 1, 11, 12, 30, 0, 0, ZoneOffset.UTC);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private OrderStatsRepository statsRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private OrderStatsProjection projection;
+
+    @BeforeEach
+    void setUp() {
+        projection = new OrderStatsProjection(statsRepository, orderRepository, outboxRepository, objectMapper,
+                transactionManager);
+    }
+
+    @Test
+    void testDeliver_CreatedOrders_AddsToStatusHourAndClient() throws Exception {
+        // Arrange
+        List<OutboxEvent> events = List.of(
+                outboxEvent(OrderEvent.created(order(1L, 7L, OrderStatus.PLACED, "20.00"))),
+                outboxEvent(OrderEvent.created(order(2L, 7L, OrderStatus.PLACED, "15.50"))));
+
+        // Act
+        projection.deliver(events);
+        entityManager.flush();
+        entityManager.clear();
+
+        // Assert
+        assertBucket(OrderStatsKey.STATUS, "PLACED", 2, "35.50");
+        assertBucket(OrderStatsKey.HOUR, "2026-01-11T12", 2, "35.50");
+        assertBucket(OrderStatsKey.CLIENT, "7", 2, "35.50");
+    }
+
+    @Test
+    void testDeliver_LaterBatches_IncrementExistingBuckets() throws Exception {
+        // Arrange
+        projection.deliver(List.of(outboxEvent(OrderEvent.created(order(1L, 7L, OrderStatus.PLACED, "20.00")))));
+        OrderResponseDto edited = order(1L, 7L, OrderStatus.PLACED, "30.00");
+
+        // Act
+        projection.deliver(List.of(outboxEvent(OrderEvent.updated(edited, new BigDecimal("20.00")))));
+        entityManager.flush();
+        entityManager.clear();
+
+        // Assert
+        assertBucket(OrderStatsKey.STATUS, "PLACED", 1, "30.00");
+        assertBucket(OrderStatsKey.CLIENT, "7", 1, "30.00");
+    }
+
+    @Test
+    void testDeliver_CanceledOrder_LeavesHourAndClientFigures() throws Exception {
+        // Arrange
+        OrderResponseDto placed = order(1L, 7L, OrderStatus.PLACED, "20.00");
+        OrderResponseDto canceled = order(1L, 7L, OrderStatus.CANCELED, "20.00");
+
+        // Act
+        projection.deliver(List.of(
+                outboxEvent(OrderEvent.created(placed)),
+                outboxEvent(OrderEvent.statusChanged(canceled, OrderStatus.PLACED))));
+        entityManager.flush();
+        entityManager.clear();
+
+        // Assert
+        assertBucket(OrderStatsKey.STATUS, "CANCELED", 1, "20.00");
+        assertThat(statsRepository.findById(new OrderStatsKey(OrderStatsKey.STATUS, "PLACED"))).isEmpty();
+        assertThat(statsRepository.findById(new OrderStatsKey(OrderStatsKey.HOUR, "2026-01-11T12"))).isEmpty();
+        assertThat(statsRepository.findById(new OrderStatsKey(OrderStatsKey.CLIENT, "7"))).isEmpty();
+    }
+
+    @Test
+    void testRebuild_MatchesOrdersWithoutPendingEvents() throws Exception {
+        // Arrange
+        Order relayed = saveOrder(7L, OrderStatus.DELIVERED, "20.00");
+        Order pending = saveOrder(8L, OrderStatus.PLACED, "10.00");
+        statsRepository.save(new OrderStatsBucket(new OrderStatsKey(OrderStatsKey.STATUS, "PLACED"), 99, BigDecimal.TEN));
+        outboxRepository.save(outboxEvent(OrderEvent.created(order(pending.getId(), 8L, OrderStatus.PLACED, "10.00"))));
+        entityManager.flush();
+
+        // Act
+        projection.rebuild();
+        entityManager.flush();
+        entityManager.clear();
+
+        // Assert
+        assertBucket(OrderStatsKey.STATUS, "DELIVERED", 1, "20.00");
+        assertBucket(OrderStatsKey.HOUR, "2026-01-11T12", 1, "20.00");
+        assertBucket(OrderStatsKey.CLIENT, String.valueOf(relayed.getClientId()), 1, "20.00");
+        assertThat(statsRepository.findById(new OrderStatsKey(OrderStatsKey.STATUS, "PLACED"))).isEmpty();
+        assertThat(statsRepository.findById(new OrderStatsKey(OrderStatsKey.CLIENT, "8"))).isEmpty();
+
+        // the relay then applies the pending event
+        projection.deliver(outboxRepository.findAllUnpublished());
+        entityManager.flush();
+        entityManager.clear();
+        assertBucket(OrderStatsKey.STATUS, "PLACED", 1, "10.00");
+        assertBucket(OrderStatsKey.HOUR, "2026-01-11T12", 2, "30.00");
+    }
+
+    private void assertBucket(String dimension, String bucket, long count, String revenue) {
+        OrderStatsBucket stats = statsRepository.findById(new OrderStatsKey(dimension, bucket)).orElseThrow();
+        assertThat(stats.getOrderCount()).isEqualTo(count);
+        assertThat(stats.getRevenue()).isEqualByComparingTo(revenue);
+    }
+
+    private Order saveOrder(Long clientId, OrderStatus status, String totalPrice) {
+        Order order = new Order();
+        order.setClientId(clientId);
+        order.setDeliveryAddress("Address");
+        order.setStatus(status);
+        order.setTotalPrice(new BigDecimal(totalPrice));
+        order.setPlacementDate(PLACED_AT);
+        order.setOrderDetails(new ArrayList<>());
+        return orderRepository.save(order);
+    }
+
+    private OrderResponseDto order(Long id, Long clientId, OrderStatus status, String totalPrice) {
+        OrderResponseDto order = new OrderResponseDto();
+        order.setId(id);
+        order.setClientId(clientId);
+        order.setStatus(status);
+        order.setTotalPrice(new BigDecimal(totalPrice));
+        order.setPlacementDate(PLACED_AT);
+        return order;
+    }
+
+    private OutboxEvent outboxEvent(OrderEvent event) throws Exception {
+        return new OutboxEvent(event.type().name(), event.order().getId(), objectMapper.writeValueAsString(event));
+    }
+}
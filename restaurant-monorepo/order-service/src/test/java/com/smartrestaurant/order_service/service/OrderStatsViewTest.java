@@ -0,0 +1,93 @@
+package com.smartrestaurant.order_service.service;
+
+import com.smartrestaurant.order_service.dto.OrderStatsDto;
+import com.smartrestaurant.order_service.dto.OrderStatsEntryDto;
+import com.smartrestaurant.order_service.entity.OrderStatsBucket;
+import com.smartrestaurant.order_service.entity.OrderStatsKey;
+import com.smartrestaurant.order_service.entity.OrderStatus;
+import com.smartrestaurant.order_service.repository.OrderStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderStatsViewTest {
+    @Mock
+    private OrderStatsRepository repository;
+
+    private OrderStatsView view;
+
+    @BeforeEach
+    void setUp() {
+        view = new OrderStatsView(repository);
+    }
+
+    @Test
+    void testRefresh_BuildsTotalsAndDays() {
+        // Arrange
+        when(repository.findByKeyDimensionIn(List.of(OrderStatsKey.STATUS, OrderStatsKey.HOUR))).thenReturn(List.of(
+                bucket(OrderStatsKey.STATUS, "PLACED", 2, "30.00"),
+                bucket(OrderStatsKey.STATUS, "DELIVERED", 1, "25.00"),
+                bucket(OrderStatsKey.STATUS, "CANCELED", 1, "99.00"),
+                bucket(OrderStatsKey.HOUR, "2026-01-10T23", 1, "25.00"),
+                bucket(OrderStatsKey.HOUR, "2026-01-11T08", 1, "10.00"),
+                bucket(OrderStatsKey.HOUR, "2026-01-11T12", 1, "20.00")));
+
+        // Act
+        view.refresh();
+        OrderStatsDto stats = view.getStats();
+
+        // Assert
+        assertEquals(4, stats.getTotalOrders());
+        assertEquals(0, new BigDecimal("55.00").compareTo(stats.getTotalRevenue()));
+        assertEquals(2, stats.getByStatus().get(OrderStatus.PLACED).getOrderCount());
+        assertEquals(2, stats.getByDay().get("2026-01-11").getOrderCount());
+        assertEquals(0, new BigDecimal("30.00").compareTo(stats.getByDay().get("2026-01-11").getRevenue()));
+        Map<String, OrderStatsEntryDto> hourly = view.getHourly(LocalDate.of(2026, 1, 11));
+        assertEquals(List.of("2026-01-11T08", "2026-01-11T12"), List.copyOf(hourly.keySet()));
+    }
+
+    @Test
+    void testRefresh_DatabaseDown_KeepsLastSnapshot() {
+        // Arrange
+        when(repository.findByKeyDimensionIn(any()))
+                .thenReturn(List.of(bucket(OrderStatsKey.STATUS, "PLACED", 2, "30.00")))
+                .thenThrow(new IllegalStateException("connection refused"));
+        view.refresh();
+
+        // Act
+        assertDoesNotThrow(() -> view.refresh());
+
+        // Assert
+        assertEquals(2, view.getStats().getTotalOrders());
+    }
+
+    @Test
+    void testGetClientStats_NoOrders_ReturnsZero() {
+        // Arrange
+        when(repository.findById(new OrderStatsKey(OrderStatsKey.CLIENT, "7"))).thenReturn(Optional.empty());
+
+        // Act
+        OrderStatsEntryDto stats = view.getClientStats(7L);
+
+        // Assert
+        assertEquals(0, stats.getOrderCount());
+        assertEquals(BigDecimal.ZERO, stats.getRevenue());
+    }
+
+    private OrderStatsBucket bucket(String dimension, String bucket, long count, String revenue) {
+        return new OrderStatsBucket(new OrderStatsKey(dimension, bucket), count, new BigDecimal(revenue));
+    }
+}
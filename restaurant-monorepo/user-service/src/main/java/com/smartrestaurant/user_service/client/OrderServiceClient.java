@@ -1,5 +1,6 @@
 package com.smartrestaurant.user_service.client;
 
+import com.smartrestaurant.user_service.dto.OrderPageResponseDto;
 import com.smartrestaurant.user_service.dto.OrderResponseDto;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,9 +11,12 @@ import java.util.List;
 
 @FeignClient(name = "order-service")
 public interface OrderServiceClient {
-    @GetMapping("/api/orders")
-    List<OrderResponseDto> getAllOrders();
+    @GetMapping("/api/orders/page")
+    OrderPageResponseDto getOrdersPage(@RequestParam(value = "after", required = false) Long afterId,
+                                       @RequestParam("size") int size);
 
     @GetMapping("/api/orders/large_orders")
-    List<OrderResponseDto> getLargeOrders(@RequestParam("minTotal") BigDecimal minTotal);
+    List<OrderResponseDto> getLargeOrders(@RequestParam("minTotal") BigDecimal minTotal,
+                                          @RequestParam("page") int page,
+                                          @RequestParam("size") int size);
 }
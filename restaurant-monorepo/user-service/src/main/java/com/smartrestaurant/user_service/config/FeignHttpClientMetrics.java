@@ -0,0 +1,25 @@
+package com.smartrestaurant.user_service.config;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Publishes the Feign connection pool as "httpcomponents.httpclient.pool.*" metrics (pool=feign).
+// Nothing is registered when Feign runs on the JDK HTTP/2 client instead of Apache HC5.
+// The same class is kept in order-, menu- and user-service: the monorepo has no shared module
+// the services could depend on, so keep the three copies identical when changing one.
+@Configuration
+public class FeignHttpClientMetrics {
+    @Bean
+    public MeterBinder feignConnectionPoolMetrics(ObjectProvider<HttpClientConnectionManager> connectionManager) {
+        return registry -> connectionManager.ifAvailable(manager -> {
+            if (manager instanceof PoolingHttpClientConnectionManager pool) {
+                new PoolingHttpClientConnectionManagerMetricsBinder(pool, "feign").bindTo(registry);
+            }
+        });
+    }
+}
@@ -17,7 +17,6 @@ import java.util.List;
 @RestController
 @RequestMapping(path="/api/users")
 public class UserController {
-
     @Autowired
     private IUserService userService;
     @Autowired
@@ -87,6 +86,16 @@ public class UserController {
         return ResponseEntity.ok(userService.getUserById(id));
     }
 
+    @GetMapping("/ids")
+    public ResponseEntity<List<Long>> getUserIds(@RequestParam(defaultValue = "0") Long after,
+                                                 @RequestParam(defaultValue = "1000") int limit) {
+        try {
+            return ResponseEntity.ok(userService.getUserIdsAfter(after, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     //http://localhost:8080/api/users/dashboard/categories
     @PreAuthorize("hasRole('ADMIN')")
     @GetMapping("/dashboard/categories")
@@ -102,17 +111,20 @@ public class UserController {
         return ResponseEntity.ok(menuServiceClient.filterDishes(categoryId, availability));
     }
 
-    //http://localhost:8080/api/users/dashboard/orders
+    //http://localhost:8080/api/users/dashboard/orders?after=500&size=100 (after = nextCursor of the previous page)
     @PreAuthorize("hasRole('ADMIN')")
     @GetMapping("/dashboard/orders")
-    public ResponseEntity<List<OrderResponseDto>> getAllOrders() {
-        return ResponseEntity.ok(orderServiceClient.getAllOrders());
+    public ResponseEntity<OrderPageResponseDto> getAllOrders(@RequestParam(required = false) Long after,
+                                                             @RequestParam(defaultValue = "100") int size) {
+        return ResponseEntity.ok(orderServiceClient.getOrdersPage(after, size));
     }
 
-    //http://localhost:8080/api/users/dashboard/large_orders
+    //http://localhost:8080/api/users/dashboard/large_orders?page=0&size=100 (largest first)
     @PreAuthorize("hasRole('ADMIN')")
     @GetMapping("/dashboard/large_orders")
-    public ResponseEntity<List<OrderResponseDto>> getLargeOrders(@RequestParam(defaultValue = "100.00")BigDecimal minTotal) {
-        return ResponseEntity.ok(orderServiceClient.getLargeOrders(minTotal));
+    public ResponseEntity<List<OrderResponseDto>> getLargeOrders(@RequestParam(defaultValue = "100.00")BigDecimal minTotal,
+                                                                 @RequestParam(defaultValue = "0") int page,
+                                                                 @RequestParam(defaultValue = "100") int size) {
+        return ResponseEntity.ok(orderServiceClient.getLargeOrders(minTotal, page, size));
     }
 }
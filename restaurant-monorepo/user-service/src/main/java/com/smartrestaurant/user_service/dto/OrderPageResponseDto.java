@@ -0,0 +1,16 @@
+package com.smartrestaurant.user_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// one keyset page of GET /api/orders/page; the same shape is declared by every service that reads it
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderPageResponseDto {
+    private List<OrderResponseDto> items;
+    private Long nextCursor;
+}
@@ -20,4 +20,7 @@ public interface IUserService {
     List<UserDTO> getClients();
     Long countEmployees();
     List<UserDTO> findByName(String name);
+
+    //Extra endpoints for services intercommunication
+    List<Long> getUserIdsAfter(Long afterId, int limit);
 }
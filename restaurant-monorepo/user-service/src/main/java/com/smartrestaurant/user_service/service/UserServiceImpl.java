@@ -7,6 +7,7 @@ import com.smartrestaurant.user_service.enums.Role;
 import com.smartrestaurant.user_service.mapper.UserMapper;
 import com.smartrestaurant.user_service.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -182,4 +183,21 @@ public class UserServiceImpl implements IUserService {
                 .map(UserMapper::toDTO)
                 .collect(Collectors.toList());
     }
+
+    /**
+     * Returns the IDs of the users registered after the given ID, in ascending order.
+     * Used by other services to keep a local copy of the known user IDs up to date.
+     *
+     * @param afterId Only IDs greater than this one are returned (0 for the first page).
+     * @param limit The maximum number of IDs to return.
+     * @return A list of user IDs.
+     * @throws IllegalArgumentException if limit is less than one.
+     */
+    @Override
+    public List<Long> getUserIdsAfter(Long afterId, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be at least 1");
+        }
+        return userRepository.findIdsAfter(afterId, Limit.of(limit));
+    }
 }
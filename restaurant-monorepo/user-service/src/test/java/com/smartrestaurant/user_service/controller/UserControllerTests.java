@@ -6,6 +6,8 @@ import com.smartrestaurant.user_service.client.OrderServiceClient;
 import com.smartrestaurant.user_service.dto.CategoryResponseDto;
 import com.smartrestaurant.user_service.dto.CreateUserDTO;
 import com.smartrestaurant.user_service.dto.DishesResponseDto;
+import com.smartrestaurant.user_service.dto.OrderPageResponseDto;
+import com.smartrestaurant.user_service.dto.OrderResponseDto;
 import com.smartrestaurant.user_service.dto.UserDTO;
 import com.smartrestaurant.user_service.service.IUserService;
 import jakarta.ws.rs.core.MediaType;
@@ -27,10 +29,12 @@ import java.util.List;
 
 import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 @WebMvcTest(UserController.class)
 @AutoConfigureMockMvc(addFilters = false) // Dezactivăm securitatea pentru a testa logica endpoint-ului
@@ -188,14 +192,52 @@ public class UserControllerTests {
         verify(menuServiceClient, (VerificationMode) times(1)).getAllCategories();
     }
 
+    @Test
+    void getAllOrders_ReturnsOnePageWithItsCursor() throws Exception {
+        OrderResponseDto second = new OrderResponseDto();
+        second.setId(2L);
+        OrderPageResponseDto page = new OrderPageResponseDto(List.of(second), 2L);
+
+        when(orderServiceClient.getOrdersPage(1L, 100)).thenReturn(page);
+
+        mockMvc.perform(get("/api/users/dashboard/orders").param("after", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].id").value(2))
+                .andExpect(jsonPath("$.nextCursor").value(2));
+
+        verify(orderServiceClient, (VerificationMode) times(1)).getOrdersPage(any(), anyInt());
+        verifyNoMoreInteractions(orderServiceClient);
+    }
+
     @Test
     void getLargeOrders_DefaultValue_Success() throws Exception {
-        when(orderServiceClient.getLargeOrders(new BigDecimal("100.00"))).thenReturn(List.of());
+        when(orderServiceClient.getLargeOrders(new BigDecimal("100.00"), 0, 100)).thenReturn(List.of());
 
         mockMvc.perform(get("/api/users/dashboard/large_orders"))
                 .andExpect(status().isOk());
 
-        verify(orderServiceClient).getLargeOrders(new BigDecimal("100.00"));
+        verify(orderServiceClient).getLargeOrders(new BigDecimal("100.00"), 0, 100);
+    }
+
+    @Test
+    void getLargeOrders_PassesPageAndSize() throws Exception {
+        when(orderServiceClient.getLargeOrders(new BigDecimal("250.00"), 2, 20)).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/users/dashboard/large_orders")
+                        .param("minTotal", "250.00").param("page", "2").param("size", "20"))
+                .andExpect(status().isOk());
+
+        verify(orderServiceClient).getLargeOrders(new BigDecimal("250.00"), 2, 20);
+    }
+
+    @Test
+    void getUserIds_DefaultValues_Success() throws Exception {
+        when(userService.getUserIdsAfter(0L, 1000)).thenReturn(List.of(1L, 2L));
+
+        mockMvc.perform(get("/api/users/ids"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[1]").value(2));
     }
 
 }
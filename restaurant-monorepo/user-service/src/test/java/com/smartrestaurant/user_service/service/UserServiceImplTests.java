@@ -10,6 +10,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.util.List;
 import java.util.Optional;
@@ -145,4 +146,23 @@ public class UserServiceImplTests {
         RuntimeException exception = assertThrows(RuntimeException.class, () -> userService.deleteUser(email));
         assertEquals("User with this email does not exist!", exception.getMessage());
     }
+
+    @Test
+    void getUserIdsAfter_Success() {
+        // GIVEN
+        when(userRepository.findIdsAfter(10L, Limit.of(2))).thenReturn(List.of(11L, 14L));
+
+        // WHEN
+        List<Long> result = userService.getUserIdsAfter(10L, 2);
+
+        // THEN
+        assertEquals(List.of(11L, 14L), result);
+    }
+
+    @Test
+    void getUserIdsAfter_InvalidLimit_ThrowsException() {
+        // WHEN & THEN
+        assertThrows(IllegalArgumentException.class, () -> userService.getUserIdsAfter(0L, 0));
+        verifyNoInteractions(userRepository);
+    }
 }